@@ -1,9 +1,135 @@
 package org.archery.simulation;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.archery.simulation.cache.ResultCache;
+import org.archery.simulation.jfr.SimulationRecording;
+import org.archery.simulation.model.ExactScoreSolver;
+import org.archery.simulation.model.RareEvent;
+import org.archery.simulation.model.SamplingMode;
+import org.archery.simulation.model.ShotEngine;
+import org.archery.simulation.model.SimulationConfig;
+import org.archery.simulation.presenter.HeadlessPresenter;
+import org.archery.simulation.presenter.MatchReportExporter;
 import org.archery.simulation.presenter.Presenter;
+import org.archery.simulation.service.SimulationService;
+import org.archery.simulation.surrogate.SurrogateDomain;
+import org.archery.simulation.surrogate.SurrogateModel;
+import org.archery.simulation.trace.TraceRecorder;
+import org.archery.simulation.trace.TraceReplayer;
 
 public class Main {
-    public static void main(String[] args) {
-        new Presenter(20000);
+    public static void main(String[] args) throws IOException {
+        SimulationConfig config = new SimulationConfig(20000);
+        boolean headless = false;
+        Path histogramPath = null;
+        int servicePort = -1;
+        int maxJobs = 2;
+        int queueCapacity = 16;
+        int workers = Runtime.getRuntime().availableProcessors();
+        Path cacheDirectory = null;
+        long cacheMegabytes = 256;
+        Path replayDirectory = null;
+        Path recordingPath = null;
+        boolean exact = false;
+        boolean validate = false;
+        Path matchReportDirectory = null;
+        SurrogateDomain surrogateDomain = null;
+        int designPoints = 0;
+        double uncertaintyRatio = SurrogateModel.DEFAULT_UNCERTAINTY_RATIO;
+        List<String> whatIfQueries = new ArrayList<>();
+        // Argumentos: --games N, --seed S, --qmc, --replicates R, --threads T, --batched (flechas por lotes),
+        // --sensitivity (derivadas respecto a las precisiones de cada género), --top K (tamaño de las clasificaciones),
+        // --rare-event underdog-sweep|long-streak (muestreo por importancia de sucesos raros) con --tilt T,
+        // --headless (sin interfaz gráfica), --histograms FICHERO (exporta los histogramas en CSV),
+        // --exact (distribuciones exactas sin simular), --validate (compara la simulación con ellas),
+        // --match-reports DIRECTORIO (exporta los informes por partido a ficheros de texto),
+        // --surrogate param=min:max,... (modelo sustituto sobre precisiones y resistencia) con --design N,
+        // --uncertainty U (incertidumbre admitida antes de simular) y --what-if param=valor,... (repetible),
+        // --serve PUERTO (servicio HTTP local) con --max-jobs, --queue y --workers,
+        // --cache DIRECTORIO (caché de resultados) con --cache-size MB,
+        // --trace DIRECTORIO (graba la traza binaria de los disparos) y --replay DIRECTORIO (la reproduce),
+        // --jfr FICHERO (grabación JFR con todos los eventos de la simulación, incluidas las fases de ronda).
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games" -> config.setNumberOfGames(Integer.parseInt(args[++i]));
+                case "--seed" -> config.setSeed(Long.parseLong(args[++i]));
+                case "--qmc" -> config.setSamplingMode(SamplingMode.QUASI_MONTE_CARLO);
+                case "--replicates" -> config.setReplicates(Integer.parseInt(args[++i]));
+                case "--threads" -> config.setThreads(Integer.parseInt(args[++i]));
+                case "--batched" -> config.setShotEngine(ShotEngine.BATCHED);
+                case "--sensitivity" -> config.setSensitivity(true);
+                case "--top" -> config.setLeaderboardSize(Integer.parseInt(args[++i]));
+                case "--rare-event" -> config.setRareEvent(RareEvent.valueOf(args[++i].toUpperCase(Locale.ROOT).replace('-', '_')));
+                case "--tilt" -> config.setImportanceTilt(Double.parseDouble(args[++i]));
+                case "--headless" -> headless = true;
+                case "--exact" -> exact = true;
+                case "--validate" -> validate = true;
+                case "--histograms" -> histogramPath = Path.of(args[++i]);
+                case "--match-reports" -> matchReportDirectory = Path.of(args[++i]);
+                case "--surrogate" -> surrogateDomain = SurrogateDomain.parse(args[++i]);
+                case "--design" -> designPoints = Integer.parseInt(args[++i]);
+                case "--uncertainty" -> uncertaintyRatio = Double.parseDouble(args[++i]);
+                case "--what-if" -> whatIfQueries.add(args[++i]);
+                case "--serve" -> servicePort = Integer.parseInt(args[++i]);
+                case "--max-jobs" -> maxJobs = Integer.parseInt(args[++i]);
+                case "--queue" -> queueCapacity = Integer.parseInt(args[++i]);
+                case "--workers" -> workers = Integer.parseInt(args[++i]);
+                case "--cache" -> cacheDirectory = Path.of(args[++i]);
+                case "--cache-size" -> cacheMegabytes = Long.parseLong(args[++i]);
+                case "--trace" -> config.setListenerFactory(TraceRecorder.factory(Path.of(args[++i])));
+                case "--replay" -> replayDirectory = Path.of(args[++i]);
+                case "--jfr" -> recordingPath = Path.of(args[++i]);
+                default -> throw new IllegalArgumentException("Argumento desconocido: " + args[i]);
+            }
+        }
+        if (validate && config.getRareEvent() != null) {
+            // El solucionador exacto usa los sorteos nominales y los histogramas saldrían de los inclinados
+            throw new IllegalArgumentException("--validate no admite --rare-event");
+        }
+        ResultCache cache = cacheDirectory == null ? null : new ResultCache(cacheDirectory, cacheMegabytes << 20);
+        if (exact) {
+            System.out.print(new ExactScoreSolver().report());
+        } else if (surrogateDomain != null) {
+            int points = designPoints > 0 ? designPoints
+                    : SurrogateModel.DEFAULT_POINTS_PER_DIMENSION * surrogateDomain.getDimensions();
+            SurrogateModel surrogate = new SurrogateModel(surrogateDomain, config, points, cache, uncertaintyRatio);
+            System.out.print(surrogate.report());
+            for (String query : whatIfQueries) {
+                System.out.print(surrogate.query(surrogateDomain.parsePoint(query)).report(surrogateDomain));
+            }
+        } else if (replayDirectory != null) {
+            TraceReplayer replayer = new TraceReplayer();
+            replayer.replay(replayDirectory);
+            System.out.print(replayer.report());
+        } else if (servicePort >= 0) {
+            SimulationService service = new SimulationService(servicePort, maxJobs, queueCapacity, workers);
+            service.start();
+            System.out.println("Servicio de simulaciones en http://localhost:" + service.getPort() + "/jobs");
+        } else {
+            // La grabación cubre la simulación y la construcción de los informes, y se vuelca aunque fallen
+            SimulationRecording recording = recordingPath == null ? null : new SimulationRecording(recordingPath);
+            try {
+                if (headless || validate || matchReportDirectory != null) {
+                    HeadlessPresenter presenter = new HeadlessPresenter(config, System.out, histogramPath, cache);
+                    if (validate) {
+                        System.out.print(new ExactScoreSolver().compare(presenter.getSimulation().getHistograms()));
+                    }
+                    if (matchReportDirectory != null) {
+                        MatchReportExporter.export(matchReportDirectory, presenter.getSimulation());
+                    }
+                } else {
+                    new Presenter(config, cache);
+                }
+            } finally {
+                if (recording != null) {
+                    recording.close();
+                }
+            }
+        }
     }
 }
@@ -0,0 +1,96 @@
+package org.archery.simulation.benchmark;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.archery.simulation.model.ConvergenceEstimator;
+import org.archery.simulation.model.Game;
+import org.archery.simulation.model.SamplingMode;
+import org.archery.simulation.model.SimulationConfig;
+import org.archery.simulation.model.SimulationResult;
+
+// Compara el error estándar de las métricas con muestreo pseudoaleatorio y cuasi-Monte Carlo.
+//
+// Uso: java -cp ... org.archery.simulation.benchmark.SamplingConvergence
+//        [--games 8000,64000] [--seeds 3] [--replicates 32] [--threads 4]
+//
+// Para cada número de juegos simula con tres muestreos: pseudoaleatorio, cuasi-Monte Carlo solo en
+// la preparación de los arqueros (resistencia, suerte y género) y cuasi-Monte Carlo con todas las
+// posiciones de sorteo (preparación, fatiga y flechas de cada ronda). El error estándar de cada
+// métrica se calcula entre réplicas y se promedia (en varianza) sobre varias semillas, porque con
+// pocas réplicas el propio error estándar es ruidoso. La reducción es el cociente de varianzas
+// respecto al muestreo pseudoaleatorio: equivale a cuántas veces más juegos pseudoaleatorios harían
+// falta para el mismo error.
+public class SamplingConvergence {
+
+	// Muestreo comparado: modo y dimensiones de la secuencia cuasi-aleatoria.
+	private enum Sampling {
+		PSEUDO("Pseudoaleatorio", SamplingMode.PSEUDO_RANDOM, SimulationConfig.DEFAULT_QMC_DIMENSIONS),
+		QMC_SETUP("QMC preparación", SamplingMode.QUASI_MONTE_CARLO, SimulationConfig.QMC_SETUP_DIMENSIONS),
+		QMC_FULL("QMC completo", SamplingMode.QUASI_MONTE_CARLO, SimulationConfig.DEFAULT_QMC_DIMENSIONS);
+
+		private final String label;
+		private final SamplingMode mode;
+		private final int dimensions;
+
+		Sampling(String label, SamplingMode mode, int dimensions) {
+			this.label = label;
+			this.mode = mode;
+			this.dimensions = dimensions;
+		}
+	}
+
+	public static void main(String[] args) {
+		int[] gameCounts = {8_000, 64_000};
+		int seeds = 3;
+		int replicates = 32;
+		int threads = Runtime.getRuntime().availableProcessors();
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+				case "--games" -> gameCounts = Arrays.stream(args[++i].split(",")).mapToInt(Integer::parseInt).toArray();
+				case "--seeds" -> seeds = Integer.parseInt(args[++i]);
+				case "--replicates" -> replicates = Integer.parseInt(args[++i]);
+				case "--threads" -> threads = Integer.parseInt(args[++i]);
+				default -> throw new IllegalArgumentException("Argumento desconocido: " + args[i]);
+			}
+		}
+
+		ConvergenceEstimator.Metric[] metrics = ConvergenceEstimator.Metric.values();
+		for (int games : gameCounts) {
+			System.out.printf("%d juegos, %d réplicas, %d semillas%n", games, replicates, seeds);
+			double[][] variances = new double[Sampling.values().length][];
+			for (Sampling sampling : Sampling.values()) {
+				variances[sampling.ordinal()] = meanVariances(sampling, games, seeds, replicates, threads);
+			}
+			for (Sampling sampling : Sampling.values()) {
+				StringBuilder line = new StringBuilder(String.format("  %-16s", sampling.label));
+				for (ConvergenceEstimator.Metric metric : metrics) {
+					double variance = variances[sampling.ordinal()][metric.ordinal()];
+					double reduction = variances[Sampling.PSEUDO.ordinal()][metric.ordinal()] / variance;
+					line.append(String.format(Locale.ROOT, "  %s: ee=%.4f (x%.1f)", metric, Math.sqrt(variance), reduction));
+				}
+				System.out.println(line);
+			}
+		}
+	}
+
+	// Varianza de la estimación de cada métrica (error estándar al cuadrado) promediada sobre las semillas.
+	private static double[] meanVariances(Sampling sampling, int games, int seeds, int replicates, int threads) {
+		ConvergenceEstimator.Metric[] metrics = ConvergenceEstimator.Metric.values();
+		double[] variances = new double[metrics.length];
+		for (int seed = 1; seed <= seeds; seed++) {
+			SimulationConfig config = new SimulationConfig(games, seed);
+			config.setSamplingMode(sampling.mode);
+			config.setQmcDimensions(sampling.dimensions);
+			config.setReplicates(replicates);
+			config.setThreads(threads);
+			config.setRetainMatches(false); // Solo las estimaciones agregadas
+			SimulationResult result = new Game(config).getResult();
+			for (ConvergenceEstimator.Metric metric : metrics) {
+				double error = result.estimate(metric).getStandardError();
+				variances[metric.ordinal()] += error * error / seeds;
+			}
+		}
+		return variances;
+	}
+}
@@ -0,0 +1,251 @@
+package org.archery.simulation.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.archery.simulation.model.Game;
+import org.archery.simulation.model.Match;
+import org.archery.simulation.model.SimulationConfig;
+import org.archery.simulation.model.SimulationListener;
+import org.archery.simulation.model.StreamingHistogram;
+import org.archery.simulation.view.GraphUtils;
+import org.jfree.chart.ChartUtilities;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+// Prueba de carga que mide cómo escala la simulación con el número de hilos y de juegos.
+//
+// Uso: java -cp ... org.archery.simulation.benchmark.ScalingHarness
+//        [--threads 1,2,4,8] [--games 20000,200000] [--seconds 10] [--warmup 5] [--batch 1000] [--out scaling]
+//
+// Antes de medir se calienta el compilador durante --warmup segundos. Cada combinación se repite
+// hasta acumular al menos los segundos indicados, tras una ejecución de calentamiento propia. Para cada una registra juegos por segundo, latencia p99 de los lotes de juegos
+// (cada hilo mide cuánto tarda en simular cada lote consecutivo), tiempo de pausa del recolector
+// de basura y pico de memoria del montón. Escribe scaling.csv y scaling.png en el directorio de
+// salida e indica, para cada número de juegos, a partir de cuántos hilos deja de mejorar.
+public class ScalingHarness {
+
+	private static final double FLAT_GAIN = 0.10; // Mejora mínima al subir de hilos para no considerarlo plano
+	private static final int CHART_WIDTH = 900;
+	private static final int CHART_HEIGHT = 600;
+
+	// Resultado de una combinación de hilos y juegos.
+	private static final class Measurement {
+		final int threads;
+		final int games;
+		int runs; // Ejecuciones medidas
+		double gamesPerSecond;
+		double p99BatchMillis;
+		double gcPauseMillis;
+		long peakHeapBytes;
+
+		Measurement(int threads, int games) {
+			this.threads = threads;
+			this.games = games;
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		int cores = Runtime.getRuntime().availableProcessors();
+		int[] threadCounts = defaultThreadCounts(cores);
+		int[] gameCounts = {20_000, 200_000};
+		double seconds = 10;
+		double warmupSeconds = 5;
+		int batchSize = 1_000;
+		Path output = Path.of("scaling");
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+				case "--threads" -> threadCounts = parseList(args[++i]);
+				case "--games" -> gameCounts = parseList(args[++i]);
+				case "--seconds" -> seconds = Double.parseDouble(args[++i]);
+				case "--warmup" -> warmupSeconds = Double.parseDouble(args[++i]);
+				case "--batch" -> batchSize = Integer.parseInt(args[++i]);
+				case "--out" -> output = Path.of(args[++i]);
+				default -> throw new IllegalArgumentException("Argumento desconocido: " + args[i]);
+			}
+		}
+		System.out.printf("Procesadores disponibles: %d, montón máximo: %d MB%n", cores,
+				Runtime.getRuntime().maxMemory() >> 20);
+
+		warmUp(warmupSeconds);
+
+		List<Measurement> measurements = new ArrayList<>();
+		for (int games : gameCounts) {
+			for (int threads : threadCounts) {
+				Measurement measurement = measure(threads, games, seconds, batchSize);
+				measurements.add(measurement);
+				System.out.printf(Locale.ROOT, "hilos=%d juegos=%d ejecuciones=%d juegos/s=%.0f p99 lote=%.2f ms GC=%.1f ms pico=%d MB%n",
+						threads, games, measurement.runs, measurement.gamesPerSecond, measurement.p99BatchMillis,
+						measurement.gcPauseMillis, measurement.peakHeapBytes >> 20);
+			}
+			int flat = flatteningPoint(measurements, games);
+			System.out.println(flat < 0
+					? String.format("%d juegos: sigue escalando con %d hilos", games, threadCounts[threadCounts.length - 1])
+					: String.format("%d juegos: se aplana a partir de %d hilos", games, flat));
+		}
+
+		Files.createDirectories(output);
+		writeCsv(output.resolve("scaling.csv"), measurements);
+		writeChart(output.resolve("scaling.png"), measurements, gameCounts);
+		System.out.println("Informe escrito en " + output.toAbsolutePath());
+	}
+
+	// Mide una combinación de hilos y juegos repitiendo la simulación durante al menos seconds segundos.
+	private static Measurement measure(int threads, int games, double seconds, int batchSize) {
+		Measurement measurement = new Measurement(threads, games);
+		Queue<BatchTimer> timers = new ConcurrentLinkedQueue<>();
+		SimulationConfig config = new SimulationConfig(games, 1);
+		config.setThreads(threads);
+		config.setRetainMatches(false); // Solo estadísticas agregadas, como en el servicio
+		int batch = Math.max(1, Math.min(batchSize, games / threads)); // Al menos un lote completo por hilo
+		config.setListenerFactory(firstGame -> {
+			BatchTimer timer = new BatchTimer(batch);
+			timers.add(timer);
+			return timer;
+		});
+		new Game(config); // Calentamiento del compilador con la misma combinación
+		timers.clear();
+
+		List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+				.filter(pool -> pool.getType() == MemoryType.HEAP).toList();
+		heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+		long gcBefore = totalGcMillis();
+		long totalGames = 0;
+		long start = System.nanoTime();
+		long elapsed;
+		do {
+			config.setSeed(measurement.runs + 1); // Cada repetición simula juegos distintos
+			new Game(config);
+			totalGames += games;
+			measurement.runs++;
+			elapsed = System.nanoTime() - start;
+		} while (elapsed < seconds * 1e9);
+
+		StreamingHistogram latencies = new StreamingHistogram("Latencia por lote (µs)");
+		timers.forEach(timer -> latencies.merge(timer.latencies));
+		measurement.gamesPerSecond = totalGames / (elapsed / 1e9);
+		measurement.p99BatchMillis = latencies.getValueAtQuantile(0.99) / 1000;
+		measurement.gcPauseMillis = totalGcMillis() - gcBefore;
+		// Suma de los picos de cada zona del montón: cota superior del pico real
+		measurement.peakHeapBytes = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+		return measurement;
+	}
+
+	// Simula juegos con un hilo durante los segundos indicados para que el compilador optimice el código.
+	private static void warmUp(double seconds) {
+		long start = System.nanoTime();
+		for (long seed = 0; System.nanoTime() - start < seconds * 1e9; seed++) {
+			SimulationConfig config = new SimulationConfig(2_000, seed);
+			config.setRetainMatches(false);
+			new Game(config);
+		}
+	}
+
+	// Tiempo acumulado de todos los recolectores de basura, en milisegundos.
+	private static long totalGcMillis() {
+		return ManagementFactory.getGarbageCollectorMXBeans().stream()
+				.mapToLong(GarbageCollectorMXBean::getCollectionTime)
+				.filter(time -> time > 0)
+				.sum();
+	}
+
+	// Primer número de hilos a partir del cual añadir hilos mejora menos de FLAT_GAIN, o -1 si sigue escalando.
+	private static int flatteningPoint(List<Measurement> measurements, int games) {
+		List<Measurement> curve = measurements.stream().filter(m -> m.games == games).toList();
+		for (int i = 1; i < curve.size(); i++) {
+			if (curve.get(i).gamesPerSecond < curve.get(i - 1).gamesPerSecond * (1 + FLAT_GAIN)) {
+				return curve.get(i - 1).threads;
+			}
+		}
+		return -1;
+	}
+
+	private static void writeCsv(Path path, List<Measurement> measurements) throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(path); PrintWriter out = new PrintWriter(writer)) {
+			out.println("threads,games,runs,games_per_second,speedup,p99_batch_ms,gc_pause_ms,peak_heap_mb");
+			for (Measurement m : measurements) {
+				double base = measurements.stream().filter(other -> other.games == m.games).findFirst()
+						.map(first -> first.gamesPerSecond).orElse(m.gamesPerSecond);
+				out.printf(Locale.ROOT, "%d,%d,%d,%.1f,%.3f,%.3f,%.1f,%.1f%n", m.threads, m.games, m.runs,
+						m.gamesPerSecond, m.gamesPerSecond / base, m.p99BatchMillis, m.gcPauseMillis,
+						m.peakHeapBytes / (1024.0 * 1024.0));
+			}
+		}
+	}
+
+	private static void writeChart(Path path, List<Measurement> measurements, int[] gameCounts) throws IOException {
+		XYSeriesCollection dataset = new XYSeriesCollection();
+		for (int games : gameCounts) {
+			XYSeries series = new XYSeries(games + " juegos");
+			measurements.stream().filter(m -> m.games == games).forEach(m -> series.add(m.threads, m.gamesPerSecond));
+			dataset.addSeries(series);
+		}
+		ChartUtilities.saveChartAsPNG(path.toFile(), GraphUtils.createScalingChart(dataset), CHART_WIDTH, CHART_HEIGHT);
+	}
+
+	// 1, 2, 4, ... hasta el doble de procesadores, incluyendo el número de procesadores.
+	private static int[] defaultThreadCounts(int cores) {
+		List<Integer> counts = new ArrayList<>();
+		for (int threads = 1; threads <= 2 * cores; threads *= 2) {
+			counts.add(threads);
+		}
+		if (!counts.contains(cores)) {
+			counts.add(cores);
+		}
+		if (!counts.contains(2 * cores)) {
+			counts.add(2 * cores);
+		}
+		return counts.stream().sorted().mapToInt(Integer::intValue).toArray();
+	}
+
+	// Lee una lista de valores separados por comas, ordenada y sin repetidos: el punto de
+	// aplanamiento y la base de la aceleración suponen que el primer valor es el menor.
+	private static int[] parseList(String value) {
+		int[] values = Arrays.stream(value.split(",")).map(String::trim).mapToInt(Integer::parseInt)
+				.sorted().distinct().toArray();
+		if (values.length == 0 || values[0] <= 0) {
+			throw new IllegalArgumentException("Se esperaban valores positivos: " + value);
+		}
+		return values;
+	}
+
+	// Mide, dentro del bloque de juegos de un hilo, cuánto tarda cada lote de batchSize juegos.
+	private static final class BatchTimer implements SimulationListener {
+		private final int batchSize;
+		private final StreamingHistogram latencies = new StreamingHistogram("Latencia por lote (µs)");
+		private int gamesInBatch;
+		private long batchStart;
+
+		BatchTimer(int batchSize) {
+			this.batchSize = batchSize;
+		}
+
+		@Override
+		public void onGameStart(int gameIndex) {
+			if (gamesInBatch == 0) {
+				batchStart = System.nanoTime();
+			}
+		}
+
+		@Override
+		public void onGameEnd(int gameIndex, Match match) {
+			if (++gamesInBatch == batchSize) {
+				latencies.record((int) Math.min(Integer.MAX_VALUE, (System.nanoTime() - batchStart) / 1000));
+				gamesInBatch = 0;
+			}
+		}
+	}
+}
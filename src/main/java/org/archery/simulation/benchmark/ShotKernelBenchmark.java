@@ -0,0 +1,115 @@
+package org.archery.simulation.benchmark;
+
+import java.util.Arrays;
+
+import org.archery.simulation.model.Game;
+import org.archery.simulation.model.Gender;
+import org.archery.simulation.model.Shot;
+import org.archery.simulation.model.ShotEngine;
+import org.archery.simulation.model.ShotKernel;
+import org.archery.simulation.model.ShotKernels;
+import org.archery.simulation.model.SimulationConfig;
+
+// Compara el núcleo de disparos vectorial con el escalar.
+//
+// Uso: java --add-modules jdk.incubator.vector -cp ... org.archery.simulation.benchmark.ShotKernelBenchmark [juegos]
+//
+// Mide el núcleo aislado con 10 carriles (un partido) y con muchos carriles (varios partidos a la vez),
+// comprueba que ambos núcleos dan exactamente las mismas puntuaciones y compara la simulación completa
+// con los motores PER_ARCHER y BATCHED. En una máquina con AVX-512 se puede medir la variante AVX2
+// repitiendo la ejecución con -XX:UseAVX=2 (o -XX:MaxVectorSize=32).
+public class ShotKernelBenchmark {
+
+	private static final int[] LANE_COUNTS = {10, 1_000, 100_000}; // Un partido, cien y diez mil partidos
+	private static final long TARGET_ARROWS = 50_000_000L; // Flechas medidas por configuración
+	private static final int WARMUP_ROUNDS = 3; // Repeticiones de calentamiento del compilador
+
+	public static void main(String[] args) {
+		int games = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+		ShotKernel scalar = ShotKernels.scalar();
+		ShotKernel vector = ShotKernels.preferred();
+		System.out.println("Núcleo escalar : " + scalar.getDescription());
+		System.out.println("Núcleo preferido : " + vector.getDescription());
+		if (!ShotKernels.isVectorAvailable()) {
+			System.out.println("La API vectorial no está disponible: arranque con --add-modules jdk.incubator.vector");
+		}
+		System.out.printf("%-10s %14s %14s %10s%n", "Carriles", "Escalar ns/fl", "Preferido ns/fl", "Mejora");
+		for (int lanes : LANE_COUNTS) {
+			KernelInput input = new KernelInput(lanes);
+			int[] expected = new int[lanes];
+			int[] actual = new int[lanes];
+			scalar.shoot(42, input.central, input.intermediate, input.outside, input.launches, lanes, expected);
+			vector.shoot(42, input.central, input.intermediate, input.outside, input.launches, lanes, actual);
+			if (!Arrays.equals(expected, actual)) {
+				throw new IllegalStateException("Los núcleos no coinciden con " + lanes + " carriles");
+			}
+			double scalarTime = measure(scalar, input);
+			double vectorTime = measure(vector, input);
+			System.out.printf("%-10d %14.3f %14.3f %9.2fx%n", lanes, scalarTime, vectorTime, scalarTime / vectorTime);
+		}
+		System.out.printf("%nSimulación completa (%d juegos)%n", games);
+		for (ShotEngine engine : ShotEngine.values()) {
+			SimulationConfig config = new SimulationConfig(games, 1);
+			config.setRetainMatches(false);
+			config.setShotEngine(engine);
+			new Game(config.withNumberOfGames(Math.max(1, games / 10))); // Calentamiento
+			long start = System.nanoTime();
+			Game game = new Game(config);
+			double seconds = (System.nanoTime() - start) / 1e9;
+			System.out.printf("%-20s %10.0f juegos/s  puntuación media por equipo %.2f%n", engine.getLabel(),
+					games / seconds, game.getStatistics().getTeamScores().getMean());
+		}
+	}
+
+	// Tiempo medio por flecha en nanosegundos.
+	private static double measure(ShotKernel kernel, KernelInput input) {
+		long arrowsPerCall = input.arrows();
+		long calls = Math.max(1, TARGET_ARROWS / arrowsPerCall);
+		int[] scores = new int[input.lanes];
+		long checksum = 0;
+		for (int round = 0; round < WARMUP_ROUNDS; round++) {
+			for (long call = 0; call < calls; call++) {
+				kernel.shoot(call, input.central, input.intermediate, input.outside, input.launches, input.lanes, scores);
+				checksum += scores[0];
+			}
+		}
+		long start = System.nanoTime();
+		for (long call = 0; call < calls; call++) {
+			kernel.shoot(call, input.central, input.intermediate, input.outside, input.launches, input.lanes, scores);
+			checksum += scores[0];
+		}
+		long elapsed = System.nanoTime() - start;
+		if (checksum == Long.MIN_VALUE) {
+			System.out.println(checksum); // Evita que el compilador elimine las llamadas
+		}
+		return (double) elapsed / (calls * arrowsPerCall);
+	}
+
+	// Carriles con la mitad de arqueros de cada género y de 5 a 9 flechas, como en una ronda real.
+	private static final class KernelInput {
+		final int lanes;
+		final double[] central;
+		final double[] intermediate;
+		final double[] outside;
+		final int[] launches;
+
+		KernelInput(int lanes) {
+			this.lanes = lanes;
+			this.central = new double[lanes];
+			this.intermediate = new double[lanes];
+			this.outside = new double[lanes];
+			this.launches = new int[lanes];
+			for (int i = 0; i < lanes; i++) {
+				var precision = new Gender(i % 2).getPrecisionMap();
+				central[i] = precision.get(Shot.CENTRAL);
+				intermediate[i] = central[i] + precision.get(Shot.INTERMEDIATE);
+				outside[i] = intermediate[i] + precision.get(Shot.OUTSIDE);
+				launches[i] = 5 + i % 5;
+			}
+		}
+
+		long arrows() {
+			return Arrays.stream(launches).asLongStream().sum();
+		}
+	}
+}
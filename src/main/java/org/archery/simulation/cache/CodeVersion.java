@@ -0,0 +1,82 @@
+package org.archery.simulation.cache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.archery.simulation.model.Game;
+
+// Huella de la versión del código de simulación: un resumen SHA-256 de todos los ficheros .class
+// del paquete model (incluidas las clases anidadas y sintéticas), leídos del directorio o del jar
+// desde el que se cargó el código. Cualquier cambio en las reglas, en los generadores aleatorios o
+// en las estadísticas invalida automáticamente las entradas de la caché, sin mantener una lista
+// de clases a mano.
+final class CodeVersion {
+
+	// Paquete cuyo código determina el contenido de un resultado.
+	private static final String SIMULATION_PACKAGE = Game.class.getPackageName().replace('.', '/');
+
+	private static volatile String fingerprint; // Huella calculada la primera vez que se pide
+
+	private CodeVersion() {
+	}
+
+	// Obtiene la huella del código de simulación en hexadecimal.
+	static String fingerprint() {
+		String value = fingerprint;
+		if (value == null) {
+			value = compute();
+			fingerprint = value;
+		}
+		return value;
+	}
+
+	private static String compute() {
+		try {
+			Path location = Path.of(Game.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+			if (Files.isDirectory(location)) {
+				return digest(location.resolve(SIMULATION_PACKAGE));
+			}
+			try (FileSystem jar = FileSystems.newFileSystem(location)) {
+				return digest(jar.getPath(SIMULATION_PACKAGE));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (URISyntaxException | RuntimeException e) {
+			throw new IllegalStateException("No se encuentra el código de simulación", e);
+		}
+	}
+
+	// Resume el nombre y el contenido de cada .class del directorio, en orden de nombre.
+	private static String digest(Path directory) throws IOException {
+		List<Path> classes;
+		try (Stream<Path> files = Files.list(directory)) {
+			classes = files.filter(file -> file.getFileName().toString().endsWith(".class"))
+					.sorted((a, b) -> a.getFileName().toString().compareTo(b.getFileName().toString()))
+					.toList();
+		}
+		if (classes.isEmpty()) {
+			throw new IllegalStateException("No se encuentra el código de " + directory);
+		}
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			for (Path file : classes) {
+				digest.update(file.getFileName().toString().getBytes(StandardCharsets.UTF_8));
+				digest.update(Files.readAllBytes(file));
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 no disponible", e);
+		}
+	}
+}
@@ -0,0 +1,226 @@
+package org.archery.simulation.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+
+import org.archery.simulation.model.Game;
+import org.archery.simulation.model.ProgressTracker;
+import org.archery.simulation.model.SamplingMode;
+import org.archery.simulation.model.SimulationConfig;
+import org.archery.simulation.model.SimulationListener;
+import org.archery.simulation.model.SimulationResult;
+import org.archery.simulation.model.SimulationStatistics;
+
+// Caché en disco de resultados de simulación, direccionada por contenido.
+//
+// La clave es un resumen SHA-256 de la versión del código, la semilla y todas las opciones que
+// afectan al resultado; cada entrada se guarda como <clave>-<juegos>.bin en formato binario
+// compacto. Como cada juego depende solo de la semilla y de su índice, una entrada con menos
+// juegos se extiende simulando únicamente los que faltan. El tamaño del directorio está acotado:
+// al superarlo se eliminan las entradas usadas hace más tiempo (LRU por fecha de último acceso).
+// Solo la lectura y la escritura de cada clave se sincronizan: las simulaciones se ejecutan en paralelo.
+public class ResultCache {
+
+	private static final System.Logger LOG = System.getLogger(ResultCache.class.getName());
+	private static final int MAGIC = 0x41524348; // "ARCH"
+	private static final int FORMAT_VERSION = 5; // Versión del formato binario
+	private static final String EXTENSION = ".bin";
+
+	private final Path directory; // Directorio de la caché
+	private final long maxBytes; // Tamaño máximo del directorio
+	private final ConcurrentMap<String, Object> locks = new ConcurrentHashMap<>(); // Cerrojo de cada clave
+
+	// @param directory Directorio de la caché; se crea si no existe.
+	// @param maxBytes Tamaño máximo que pueden ocupar las entradas.
+	public ResultCache(Path directory, long maxBytes) throws IOException {
+		if (maxBytes <= 0) {
+			throw new IllegalArgumentException("El tamaño de la caché debe ser positivo");
+		}
+		this.directory = Files.createDirectories(directory);
+		this.maxBytes = maxBytes;
+	}
+
+	// Obtiene el resultado de una configuración: lo lee de la caché si existe, extiende la entrada
+	// más grande con la misma semilla si tiene menos juegos, o simula todo en otro caso.
+	// @param config Configuración de la simulación.
+	// @param executor Grupo de hilos para simular, o null para crear uno propio.
+	// @param progress Seguimiento del progreso de los juegos que haya que simular.
+	public SimulationResult obtain(SimulationConfig config, ExecutorService executor,
+			ProgressTracker progress) {
+		String key = key(config);
+		// Con un observador (p. ej. una traza) hay que simular todos los juegos para que reciba sus eventos
+		boolean observed = config.getListenerFactory() != SimulationListener.Factory.NONE;
+		Object lock = locks.computeIfAbsent(key, k -> new Object());
+		SimulationResult cached;
+		synchronized (lock) {
+			cached = observed ? null : load(key, config);
+		}
+		if (cached != null && cached.getNumberOfGames() == config.getNumberOfGames()) {
+			return cached;
+		}
+		int firstGame = cached == null ? 0 : cached.getNumberOfGames();
+		SimulationResult computed = new Game(config, firstGame, executor, progress).getResult();
+		SimulationResult result = cached == null ? computed : cached.extend(computed);
+		synchronized (lock) {
+			store(key, result);
+		}
+		return result;
+	}
+
+	// Busca la entrada con la misma clave y el mayor número de juegos que no supere el pedido.
+	private SimulationResult load(String key, SimulationConfig config) {
+		List<Path> entries;
+		try {
+			entries = entries();
+		} catch (UncheckedIOException e) {
+			LOG.log(System.Logger.Level.WARNING, "No se pudo leer la caché; se simula sin ella", e);
+			return null;
+		}
+		Path best = null;
+		int bestGames = -1;
+		for (Path entry : entries) {
+			int games = gamesOf(entry, key);
+			if (games > bestGames && games <= config.getNumberOfGames()) {
+				best = entry;
+				bestGames = games;
+			}
+		}
+		if (best == null) {
+			return null;
+		}
+		SimulationConfig cachedConfig = config.withNumberOfGames(bestGames);
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(best)))) {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+				Files.deleteIfExists(best); // Entrada de otro formato: se descarta
+				return null;
+			}
+			SimulationResult result = new SimulationResult(cachedConfig, SimulationStatistics.readFrom(in));
+			Files.setLastModifiedTime(best, FileTime.fromMillis(System.currentTimeMillis())); // Marca el acceso para el LRU
+			return result;
+		} catch (IOException e) {
+			return null; // Una entrada ilegible se trata como un fallo de caché
+		}
+	}
+
+	// Guarda un resultado de forma atómica y aplica el límite de tamaño. Si no se puede escribir,
+	// el resultado ya calculado sigue siendo válido: se registra el error y no se guarda.
+	private void store(String key, SimulationResult result) {
+		Path target = directory.resolve(key + "-" + result.getNumberOfGames() + EXTENSION);
+		Path temporary = null;
+		try {
+			temporary = Files.createTempFile(directory, key, ".tmp");
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				result.getStatistics().writeTo(out);
+			}
+			Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			temporary = null;
+			evict(target);
+		} catch (IOException | UncheckedIOException e) {
+			LOG.log(System.Logger.Level.WARNING, "No se pudo guardar el resultado en la caché: " + target, e);
+			if (temporary != null) {
+				try {
+					Files.deleteIfExists(temporary);
+				} catch (IOException ignored) {
+					// El fichero temporal queda huérfano; no afecta a las entradas válidas
+				}
+			}
+		}
+	}
+
+	// Elimina las entradas menos usadas hasta que el directorio quepa en el límite,
+	// conservando siempre la entrada recién escrita.
+	private void evict(Path keep) throws IOException {
+		List<Path> entries = entries();
+		long total = 0;
+		for (Path entry : entries) {
+			total += Files.size(entry);
+		}
+		entries.sort(Comparator.comparing(ResultCache::lastAccess));
+		for (Path entry : entries) {
+			if (total <= maxBytes) {
+				break;
+			}
+			if (!entry.equals(keep)) {
+				total -= Files.size(entry);
+				Files.deleteIfExists(entry);
+			}
+		}
+	}
+
+	private List<Path> entries() {
+		List<Path> entries = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+			stream.forEach(entries::add);
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo leer el directorio de la caché", e);
+		}
+		return entries;
+	}
+
+	private static FileTime lastAccess(Path entry) {
+		try {
+			return Files.getLastModifiedTime(entry);
+		} catch (IOException e) {
+			return FileTime.fromMillis(0);
+		}
+	}
+
+	// Obtiene el número de juegos de una entrada con la clave dada, o -1 si es de otra clave.
+	private static int gamesOf(Path entry, String key) {
+		String name = entry.getFileName().toString();
+		if (!name.startsWith(key + "-")) {
+			return -1;
+		}
+		try {
+			return Integer.parseInt(name.substring(key.length() + 1, name.length() - EXTENSION.length()));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	// Calcula la clave de una configuración: todo lo que afecta al resultado salvo el número de
+	// juegos, que forma parte del nombre de la entrada para poder extenderla.
+	static String key(SimulationConfig config) {
+		SamplingMode mode = config.getSamplingMode();
+		String material = String.join("|",
+				CodeVersion.fingerprint(),
+				Integer.toString(FORMAT_VERSION),
+				Long.toString(config.getSeed()),
+				mode.name(),
+				Integer.toString(config.getReplicates()),
+				mode == SamplingMode.QUASI_MONTE_CARLO ? Integer.toString(config.getQmcDimensions()) : "-",
+				Boolean.toString(config.isRetainMatches()),
+				config.getShotEngine().name(),
+				Boolean.toString(config.isSensitivity()),
+				config.getRareEvent() == null ? "-" : config.getRareEvent().name() + ":" + config.getImportanceTilt(),
+				Integer.toString(config.getLeaderboardSize()),
+				config.getRules().toString());
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(material.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(hash, 0, 16); // 128 bits bastan para los nombres de fichero
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 no disponible", e);
+		}
+	}
+}
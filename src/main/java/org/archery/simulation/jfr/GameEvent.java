@@ -0,0 +1,46 @@
+package org.archery.simulation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Evento JFR que cubre la simulación completa de un juego.
+@Name("org.archery.simulation.Game")
+@Label("Juego")
+@Category({"Simulación de tiro con arco"})
+@Description("Simulación de un juego completo, con sus puntuaciones y el género ganador")
+public class GameEvent extends Event {
+
+	@Label("Índice del juego")
+	int gameIndex;
+
+	@Label("Puntuación del equipo 1")
+	int team1Score;
+
+	@Label("Puntuación del equipo 2")
+	int team2Score;
+
+	@Label("Género ganador")
+	String winnerGender;
+
+	// Crea el evento de un juego y empieza a medir su duración.
+	public static GameEvent start(int gameIndex) {
+		GameEvent event = new GameEvent();
+		event.gameIndex = gameIndex;
+		event.begin();
+		return event;
+	}
+
+	// Termina de medir el juego y registra el evento si JFR lo tiene activado.
+	public void finish(int team1Score, int team2Score, String winnerGender) {
+		end();
+		if (shouldCommit()) {
+			this.team1Score = team1Score;
+			this.team2Score = team2Score;
+			this.winnerGender = winnerGender;
+			commit();
+		}
+	}
+}
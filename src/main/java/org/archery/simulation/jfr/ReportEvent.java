@@ -0,0 +1,36 @@
+package org.archery.simulation.jfr;
+
+import java.util.function.Supplier;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Evento JFR de la construcción de un informe en los presentadores.
+@Name("org.archery.simulation.Report")
+@Label("Informe")
+@Category({"Simulación de tiro con arco"})
+@Description("Construcción de un informe a partir del resultado de la simulación")
+public class ReportEvent extends Event {
+
+	@Label("Informe")
+	String report;
+
+	// Construye un informe midiendo su duración.
+	// @param report Nombre del informe.
+	// @param builder Construcción del informe.
+	// @return El informe construido.
+	public static <T> T build(String report, Supplier<T> builder) {
+		ReportEvent event = new ReportEvent();
+		event.begin();
+		T result = builder.get();
+		event.end();
+		if (event.shouldCommit()) {
+			event.report = report;
+			event.commit();
+		}
+		return result;
+	}
+}
@@ -0,0 +1,58 @@
+package org.archery.simulation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Evento JFR que cubre una fase de una ronda (Game.simulateRounds). Hay varias por ronda, así que
+// está desactivado por defecto; SimulationRecording lo activa.
+@Name("org.archery.simulation.RoundPhase")
+@Label("Fase de ronda")
+@Category({"Simulación de tiro con arco"})
+@Description("Una fase de una ronda: disparos, disparo aleatorio, lanzamientos extra, ganadores y estadísticas")
+@Enabled(false)
+public class RoundPhaseEvent extends Event {
+
+	public static final String SHOTS = "Disparos";
+	public static final String RANDOM_SHOT = "Disparo aleatorio";
+	public static final String EXTRA_SHOTS = "Lanzamientos extra";
+	public static final String ARCHER_WINNER = "Arquero ganador";
+	public static final String TEAM_WINNER = "Equipo ganador";
+	public static final String STATISTICS = "Estadísticas";
+
+	@Label("Índice del juego")
+	int gameIndex;
+
+	@Label("Ronda")
+	int round;
+
+	@Label("Fase")
+	String phase;
+
+	// Crea el evento de una fase y empieza a medir su duración.
+	public static RoundPhaseEvent start(int gameIndex, int round, String phase) {
+		RoundPhaseEvent event = new RoundPhaseEvent();
+		event.gameIndex = gameIndex;
+		event.round = round;
+		event.phase = phase;
+		event.begin();
+		return event;
+	}
+
+	// Termina esta fase y empieza la siguiente de la misma ronda.
+	public RoundPhaseEvent next(String phase) {
+		finish();
+		return start(gameIndex, round, phase);
+	}
+
+	// Termina de medir la fase y registra el evento si JFR lo tiene activado.
+	public void finish() {
+		end();
+		if (shouldCommit()) {
+			commit();
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package org.archery.simulation.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+// Grabación JFR con la configuración "profile" y todos los eventos de la simulación activados,
+// incluidas las fases de ronda que están desactivadas por defecto.
+public class SimulationRecording implements AutoCloseable {
+
+	private final Recording recording; // Grabación en curso
+	private final Path destination; // Fichero .jfr de salida
+
+	// Inicia la grabación.
+	// @param destination Fichero donde se escribe la grabación al cerrarla.
+	public SimulationRecording(Path destination) throws IOException {
+		try {
+			this.recording = new Recording(Configuration.getConfiguration("profile"));
+		} catch (ParseException e) {
+			throw new IOException("Configuración JFR no válida", e);
+		}
+		this.destination = destination;
+		recording.setName("Simulación de tiro con arco");
+		recording.enable(GameEvent.class);
+		recording.enable(RoundPhaseEvent.class);
+		recording.enable(TiebreakEvent.class);
+		recording.enable(ReportEvent.class);
+		recording.start();
+	}
+
+	// Detiene la grabación y la escribe en el fichero de destino.
+	@Override
+	public void close() throws IOException {
+		try {
+			recording.stop();
+			recording.dump(destination);
+		} finally {
+			recording.close(); // Libera la grabación aunque no se haya podido volcar
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package org.archery.simulation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Evento JFR de un desempate entre los mejores arqueros de cada equipo en una ronda.
+// Solo se registra cuando ha hecho falta al menos una tanda de desempate.
+@Name("org.archery.simulation.Tiebreak")
+@Label("Desempate")
+@Category({"Simulación de tiro con arco"})
+@Description("Resolución de un empate de ronda, con el número de tandas necesarias")
+public class TiebreakEvent extends Event {
+
+	@Label("Arquero A")
+	int archerA;
+
+	@Label("Arquero B")
+	int archerB;
+
+	@Label("Tandas")
+	int iterations;
+
+	@Label("Arquero ganador")
+	int winner;
+
+	// Crea el evento de un desempate y empieza a medir su duración.
+	public static TiebreakEvent start(int archerA, int archerB) {
+		TiebreakEvent event = new TiebreakEvent();
+		event.archerA = archerA;
+		event.archerB = archerB;
+		event.begin();
+		return event;
+	}
+
+	// Termina de medir el desempate y lo registra si hubo empate y JFR lo tiene activado.
+	public void finish(int iterations, int winner) {
+		if (iterations == 0) {
+			return; // Sin empate no hay nada que registrar
+		}
+		end();
+		if (shouldCommit()) {
+			this.iterations = iterations;
+			this.winner = winner;
+			commit();
+		}
+	}
+}
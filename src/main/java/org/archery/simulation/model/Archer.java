@@ -1,8 +1,8 @@
 package org.archery.simulation.model;
 
 import java.util.Map;
-import java.util.Random;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -15,8 +15,15 @@ import lombok.Setter;
 @Setter
 public class Archer {
 
-	private static LinearCongruentialGenerator rng; // Generador de números pseudoaleatorios para varios cálculos
-	private static Random random; // Generador de números aleatorios para varios cálculos
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private final RandomSource rng; // Fuente de números aleatorios del juego al que pertenece el arquero
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private final SimulationListener listener; // Observador de los sorteos del arquero
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private final ImportanceSampler sampler; // Distribución inclinada de los sorteos, o null para la nominal
 	private int archerId; // Identificador único del arquero
 	private int initialResistance; // Nivel inicial de resistencia del arquero
 	private int experience; // Puntos de experiencia acumulados por el arquero
@@ -33,6 +40,9 @@ public class Archer {
 	private int randomShotsWon; // Número total de disparos aleatorios ganados
 	private int consecutiveRandomShotsWon; // Conteo de disparos aleatorios ganados de forma consecutiva
 	private int totalLuck; // Suerte total acumulada a lo largo de la simulación
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private int round; // Ronda en curso (0-9), para la posición de cada sorteo en la fuente aleatoria
 	
 
 	/**
@@ -41,13 +51,28 @@ public class Archer {
 	 * @param id Unique identifier for the archer.
 	 */
 	public Archer(int id) {
-		random = new Random();
-		rng = new LinearCongruentialGenerator();
+		this(id, new PseudoRandomSource(System.nanoTime()), SimulationListener.NONE, null, RuleParameters.NOMINAL);
+	}
+
+	/**
+	 * Constructor used by {@link Game}: draws the archer's attributes from the game's
+	 * random source and rules, and reports every draw to the given listener.
+	 *
+	 * @param id       Unique identifier for the archer.
+	 * @param rng      Random source shared by every archer of the same game.
+	 * @param listener Listener notified of every shot, fatigue and luck draw.
+	 * @param sampler  Importance sampler, or null to use the nominal distributions.
+	 * @param rules    Shot precisions per gender and starting resistance range.
+	 */
+	Archer(int id, RandomSource rng, SimulationListener listener, ImportanceSampler sampler, RuleParameters rules) {
+		this.rng = rng;
+		this.listener = listener;
+		this.sampler = sampler;
 		this.archerId = id; // Asigna el ID único del arquero
-		initialResistance = rng.nextInt(25, 45); // Establece la resistencia inicial entre 25 y 45
+		initialResistance = rules.drawResistance(rng, DrawSlot.resistance(id)); // Establece la resistencia inicial (entre 25 y 45 por defecto)
 		experience = 10; // La experiencia por defecto comienza en 10
-		initialLuck = generateLuck(); // Genera el valor inicial de suerte para el arquero
-		gender = new Gender(rng.nextInt(0, 2)); // Asigna aleatoriamente un género (binario)
+		initialLuck = generateLuck(DrawSlot.luck(id)); // Genera el valor inicial de suerte para el arquero
+		gender = new Gender(rng.nextInt(0, 2, DrawSlot.gender(id)), rules); // Asigna aleatoriamente un género (binario)
 
 		// Inicializa las estadísticas del arquero
 		totalResistance = initialResistance;
@@ -67,8 +92,8 @@ public class Archer {
  * Calcula las puntuaciones de los lanzamientos y actualiza la resistencia y la suerte en consecuencia.
  */
 	public void executeLaunch() {
-		while (this.totalResistance > 0) {
-			int launch = calculateScoreLaunch(); // Calcula la puntuación del lanzamiento actual
+		for (int arrow = 0; this.totalResistance > 0; arrow++) {
+			int launch = calculateScoreLaunch(ShotKind.ARROW, DrawSlot.arrow(archerId, round, arrow)); // Calcula la puntuación del lanzamiento actual
 			totalScore += launch; // Actualiza la puntuación total
 			roundScore += launch; // Actualiza la puntuación de la ronda actual
 			totalResistance -= 5; // Reduce la resistencia en 5 después de cada lanzamiento
@@ -77,22 +102,63 @@ public class Archer {
 		restartLuck(); // Restablece la suerte después de cada ronda
 	}
 
+	// Obtiene el número de lanzamientos que executeLaunch() haría con la resistencia actual.
+	public int getAvailableLaunches() {
+		return totalResistance > 0 ? (totalResistance + 4) / 5 : 0;
+	}
+
+	// Registra los lanzamientos de la ronda sorteados fuera del arquero (ShotEngine.BATCHED)
+	// y cierra la ronda igual que executeLaunch().
+	// @param launches Número de lanzamientos realizados.
+	// @param score Puntuación total de esos lanzamientos.
+	public void completeLaunches(int launches, int score) {
+		totalScore += score; // Actualiza la puntuación total
+		roundScore += score; // Actualiza la puntuación de la ronda actual
+		totalResistance -= 5 * launches; // Reduce la resistencia en 5 por cada lanzamiento
+		regainResistanceEachRound(); // Regenera la resistencia al final de la ronda
+		restartLuck(); // Restablece la suerte después de cada ronda
+	}
+
 	
 	 // Calcula la puntuación de un lanzamiento basado en la precisión del arquero.
 	 // @return La puntuación obtenida en el lanzamiento.
 	public int calculateScoreLaunch() {
+		return calculateScoreLaunch(ShotKind.ARROW);
+	}
+
+	 // Calcula la puntuación de un lanzamiento indicando su origen, que se notifica al observador.
+	 // @param kind Origen del lanzamiento.
+	 // @return La puntuación obtenida en el lanzamiento.
+	public int calculateScoreLaunch(ShotKind kind) {
+		return calculateScoreLaunch(kind, DrawSlot.NONE);
+	}
+
+	 // Calcula la puntuación de un lanzamiento con una posición fija en la fuente aleatoria.
+	private int calculateScoreLaunch(ShotKind kind, int slot) {
+		Shot shot = drawShot(slot); // Sortea el resultado del lanzamiento
+		listener.onShot(this, shot, kind);
+		return shot.getScore();
+	}
+
+	 // Sortea el resultado de un lanzamiento basado en la precisión del arquero.
+	 // @param slot Posición del sorteo en la fuente aleatoria (DrawSlot).
+	 // @return El tipo de impacto obtenido.
+	private Shot drawShot(int slot) {
+		if (sampler != null) {
+			return sampler.drawShot(this, rng); // Distribución inclinada del muestreo por importancia
+		}
 		Map<Shot, Double> precisionMap = gender.getPrecisionMap(); // Obtiene el mapa de precisión según el género
-		double randomLaunch = rng.nextDouble(); // Genera un número aleatorio entre 0 y 1
+		double randomLaunch = rng.nextDouble(slot); // Genera un número aleatorio entre 0 y 1
 
 		// Determina la puntuación basada en las probabilidades de precisión
 		if (randomLaunch <= precisionMap.get(Shot.CENTRAL)) {
-			return Shot.CENTRAL.getScore(); // Impacto en el blanco central
+			return Shot.CENTRAL; // Impacto en el blanco central
 		} else if (randomLaunch <= precisionMap.get(Shot.CENTRAL) + precisionMap.get(Shot.INTERMEDIATE)) {
-			return Shot.INTERMEDIATE.getScore(); // Impacto en el blanco intermedio
+			return Shot.INTERMEDIATE; // Impacto en el blanco intermedio
 		} else if (randomLaunch <= precisionMap.get(Shot.CENTRAL) + precisionMap.get(Shot.INTERMEDIATE) + precisionMap.get(Shot.OUTSIDE)) {
-			return Shot.OUTSIDE.getScore(); // Impacto en el blanco exterior
+			return Shot.OUTSIDE; // Impacto en el blanco exterior
 		} else {
-			return Shot.ERROR.getScore(); // Disparo fallido
+			return Shot.ERROR; // Disparo fallido
 		}
 	}
 
@@ -111,13 +177,16 @@ public class Archer {
     }
 
     // Genera un valor de suerte aleatorio entre 1 y 3.
-    private double generateLuck() {
-        return 1 + random.nextFloat() * (3 - 1); // Genera suerte entre 1 y 3
+    private double generateLuck(int slot) {
+        double luck = sampler != null ? sampler.drawLuck(this, rng) // Distribución inclinada
+                : 1 + rng.nextDouble(slot) * (3 - 1); // Genera suerte entre 1 y 3
+        listener.onLuck(this, luck);
+        return luck;
     }
 
     // Restablece la suerte del arquero a un nuevo valor generado aleatoriamente.
     private void restartLuck() {
-        initialLuck = generateLuck(); // Genera un nuevo valor de suerte
+        initialLuck = generateLuck(DrawSlot.NONE); // Genera un nuevo valor de suerte
     }
 
     // Aumenta la suerte total acumulada del arquero.
@@ -127,13 +196,22 @@ public class Archer {
 
     // Regenera la resistencia del arquero al final de cada ronda, considerando la fatiga.
     private void regainResistanceEachRound() {
-        totalResistance = initialResistance - generateFatigue(); // Regenera la resistencia considerando la fatiga
+        totalResistance = initialResistance - generateFatigue(DrawSlot.fatigue(archerId, round)); // Regenera la resistencia considerando la fatiga
         initialResistance = totalResistance; // Actualiza la resistencia inicial para la siguiente ronda
+        round++;
     }
 
     // Genera un valor de fatiga aleatorio entre 1 y 2.
     public int generateFatigue() {
-        return random.nextInt(2) + 1; // Genera fatiga entre 1 y 2
+        return generateFatigue(DrawSlot.NONE);
+    }
+
+    // Genera la fatiga con una posición fija en la fuente aleatoria.
+    private int generateFatigue(int slot) {
+        int fatigue = sampler != null ? sampler.drawFatigue(this, rng) // Distribución inclinada
+                : rng.nextInt(1, 2, slot); // Genera fatiga entre 1 y 2
+        listener.onFatigue(this, fatigue);
+        return fatigue;
     }
 
     // Aumenta los puntos de experiencia del arquero.
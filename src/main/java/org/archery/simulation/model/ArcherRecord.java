@@ -0,0 +1,39 @@
+package org.archery.simulation.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Comparator;
+
+import lombok.Getter;
+
+// Valor destacado de un arquero en un partido concreto (suerte o experiencia), para las clasificaciones.
+@Getter
+public class ArcherRecord {
+
+	// Orden de las clasificaciones: mayor valor primero y, a igualdad, el partido y el arquero anteriores.
+	public static final Comparator<ArcherRecord> BEST_FIRST = Comparator
+			.comparingInt(ArcherRecord::getValue).reversed()
+			.thenComparingInt(ArcherRecord::getGameIndex)
+			.thenComparingInt(ArcherRecord::getArcherId);
+
+	private final int gameIndex; // Índice del juego
+	private final int archerId; // Identificador del arquero
+	private final int value; // Valor registrado
+
+	public ArcherRecord(int gameIndex, int archerId, int value) {
+		this.gameIndex = gameIndex;
+		this.archerId = archerId;
+		this.value = value;
+	}
+
+	void writeTo(DataOutput out) throws IOException {
+		out.writeInt(gameIndex);
+		out.writeByte(archerId);
+		out.writeInt(value);
+	}
+
+	static ArcherRecord readFrom(DataInput in) throws IOException {
+		return new ArcherRecord(in.readInt(), in.readUnsignedByte(), in.readInt());
+	}
+}
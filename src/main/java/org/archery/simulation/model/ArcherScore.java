@@ -0,0 +1,16 @@
+package org.archery.simulation.model;
+
+import lombok.Getter;
+
+// Puntuación total de un arquero en un partido, usada para dibujar su evolución.
+@Getter
+public class ArcherScore {
+
+	private final int archerId; // Identificador del arquero
+	private final int totalScore; // Puntuación total del arquero en el partido
+
+	public ArcherScore(int archerId, int totalScore) {
+		this.archerId = archerId;
+		this.totalScore = totalScore;
+	}
+}
@@ -0,0 +1,51 @@
+package org.archery.simulation.model;
+
+import java.util.Map;
+
+// Ronda de flechas normales de un partido sorteada con un ShotKernel: reúne el estado de los
+// diez arqueros en arrays, sortea todas sus flechas a la vez y devuelve el resultado a cada
+// arquero. Cada bloque de juegos usa su propia instancia (confinada al hilo).
+class BatchedRound {
+
+	private static final int LANES = SimulationStatistics.MAX_ARCHER_ID;
+
+	private final ShotKernel kernel;
+	private final Archer[] archers = new Archer[LANES];
+	private final double[] central = new double[LANES];
+	private final double[] intermediate = new double[LANES];
+	private final double[] outside = new double[LANES];
+	private final int[] launches = new int[LANES];
+	private final int[] scores = new int[LANES];
+
+	BatchedRound(ShotKernel kernel) {
+		this.kernel = kernel;
+	}
+
+	// Ejecuta los lanzamientos de todos los arqueros del partido.
+	// @param match Partido en curso.
+	// @param rng Fuente aleatoria del juego, de la que sale la semilla de la ronda.
+	void execute(Match match, RandomSource rng) {
+		int lane = 0;
+		for (Team team : match.getTeams()) {
+			for (Archer archer : team.getArchers()) {
+				Map<Shot, Double> precision = archer.getGender().getPrecisionMap();
+				archers[lane] = archer;
+				// Mismos umbrales acumulados que Archer, sumados en el mismo orden
+				central[lane] = precision.get(Shot.CENTRAL);
+				intermediate[lane] = precision.get(Shot.CENTRAL) + precision.get(Shot.INTERMEDIATE);
+				outside[lane] = precision.get(Shot.CENTRAL) + precision.get(Shot.INTERMEDIATE) + precision.get(Shot.OUTSIDE);
+				launches[lane] = archer.getAvailableLaunches();
+				if (launches[lane] > ShotKernel.MAX_LAUNCHES) {
+					// Los contadores de carriles vecinos se solaparían y sus flechas quedarían correlacionadas
+					throw new IllegalStateException("Demasiadas flechas para el núcleo por lotes: " + launches[lane]);
+				}
+				lane++;
+			}
+		}
+		long seed = PseudoRandomSource.mix(Double.doubleToRawLongBits(rng.nextDouble()));
+		kernel.shoot(seed, central, intermediate, outside, launches, lane, scores);
+		for (int i = 0; i < lane; i++) {
+			archers[i].completeLaunches(launches[i], scores[i]);
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package org.archery.simulation.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+// Estadísticas de carrera de cada arquero, indexadas por su identificador.
+// Los arqueros se recrean con los mismos identificadores en cada juego, así que los totales se
+// acumulan en arrays primitivos a medida que terminan los partidos, y las consultas cuestan
+// O(arqueros) en lugar de recorrer todos los arqueros de todos los partidos.
+// Cada hilo usa su propio almacén y al final se combinan con merge().
+public class CareerStore {
+
+	// Métricas acumuladas por arquero.
+	public enum Metric {
+		SCORE("Puntuación"),
+		ROUNDS_WON("Rondas ganadas"),
+		LUCK("Suerte"),
+		EXPERIENCE("Experiencia"),
+		RANDOM_SHOTS_WON("Disparos aleatorios ganados");
+
+		private final String label; // Nombre legible de la métrica
+
+		private Metric(String label) {
+			this.label = label;
+		}
+
+		public String getLabel() {
+			return label;
+		}
+	}
+
+	private final long[][] totals; // Total de cada métrica por identificador de arquero
+	private final long[] matches; // Partidos jugados por identificador de arquero
+	private final long[] maleMatches; // Partidos jugados como hombre por identificador de arquero
+
+	// @param maxArcherId Mayor identificador de arquero que se puede registrar.
+	public CareerStore(int maxArcherId) {
+		this.totals = new long[Metric.values().length][maxArcherId + 1];
+		this.matches = new long[maxArcherId + 1];
+		this.maleMatches = new long[maxArcherId + 1];
+	}
+
+	// Registra el estado final de un arquero al terminar su partido.
+	public void record(Archer archer) {
+		int id = archer.getArcherId();
+		totals[Metric.SCORE.ordinal()][id] += archer.getTotalScore();
+		totals[Metric.ROUNDS_WON.ordinal()][id] += archer.getRoundsWon();
+		totals[Metric.LUCK.ordinal()][id] += archer.getTotalLuck();
+		totals[Metric.EXPERIENCE.ordinal()][id] += archer.getExperience();
+		totals[Metric.RANDOM_SHOTS_WON.ordinal()][id] += archer.getRandomShotsWon();
+		matches[id]++;
+		if ("Hombre".equals(archer.getGender().getName())) {
+			maleMatches[id]++;
+		}
+	}
+
+	// Combina los totales de otro almacén con el mismo tamaño.
+	public void merge(CareerStore other) {
+		for (int m = 0; m < totals.length; m++) {
+			for (int id = 0; id < matches.length; id++) {
+				totals[m][id] += other.totals[m][id];
+			}
+		}
+		for (int id = 0; id < matches.length; id++) {
+			matches[id] += other.matches[id];
+			maleMatches[id] += other.maleMatches[id];
+		}
+	}
+
+	// Obtiene el mayor identificador de arquero admitido.
+	public int getMaxArcherId() {
+		return matches.length - 1;
+	}
+
+	// Obtiene el total de una métrica para un arquero.
+	public long getTotal(int archerId, Metric metric) {
+		return totals[metric.ordinal()][archerId];
+	}
+
+	// Obtiene la media por partido de una métrica para un arquero.
+	public double getAverage(int archerId, Metric metric) {
+		return matches[archerId] == 0 ? Double.NaN : (double) getTotal(archerId, metric) / matches[archerId];
+	}
+
+	// Obtiene los partidos jugados por un arquero.
+	public long getMatches(int archerId) {
+		return matches[archerId];
+	}
+
+	// Obtiene los partidos que un arquero jugó como hombre.
+	public long getMaleMatches(int archerId) {
+		return maleMatches[archerId];
+	}
+
+	// Genera un informe con una línea por arquero.
+	public String report() {
+		StringBuilder report = new StringBuilder();
+		for (int id = 1; id < matches.length; id++) {
+			if (matches[id] == 0) {
+				continue;
+			}
+			report.append(String.format("Arquero %d : partidos %d, puntuación total %d (media %.1f), rondas ganadas %d, "
+							+ "suerte %d, experiencia media %.1f, disparos aleatorios ganados %d, hombre en %.1f %%%n",
+					id, matches[id], getTotal(id, Metric.SCORE), getAverage(id, Metric.SCORE),
+					getTotal(id, Metric.ROUNDS_WON), getTotal(id, Metric.LUCK), getAverage(id, Metric.EXPERIENCE),
+					getTotal(id, Metric.RANDOM_SHOTS_WON), 100.0 * maleMatches[id] / matches[id]));
+		}
+		return report.toString();
+	}
+
+	// Escribe los totales en formato binario.
+	void writeTo(DataOutput out) throws IOException {
+		out.writeInt(matches.length - 1);
+		for (long[] metricTotals : totals) {
+			for (long total : metricTotals) {
+				out.writeLong(total);
+			}
+		}
+		for (int id = 0; id < matches.length; id++) {
+			out.writeLong(matches[id]);
+			out.writeLong(maleMatches[id]);
+		}
+	}
+
+	// Lee unos totales escritos con writeTo().
+	static CareerStore readFrom(DataInput in) throws IOException {
+		CareerStore store = new CareerStore(in.readInt());
+		for (long[] metricTotals : store.totals) {
+			for (int id = 0; id < metricTotals.length; id++) {
+				metricTotals[id] = in.readLong();
+			}
+		}
+		for (int id = 0; id < store.matches.length; id++) {
+			store.matches[id] = in.readLong();
+			store.maleMatches[id] = in.readLong();
+		}
+		return store;
+	}
+}
@@ -0,0 +1,125 @@
+package org.archery.simulation.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import lombok.Getter;
+
+// Acumula las métricas agregadas de cada réplica para estimar su valor y su error estándar.
+// En modo cuasi-Monte Carlo cada réplica usa una aleatorización independiente de la secuencia;
+// en modo pseudoaleatorio las réplicas son simples lotes, lo que permite comparar la
+// convergencia de ambos modos con el mismo estimador.
+public class ConvergenceEstimator {
+
+	// Métricas suaves estimadas a partir de cada partido.
+	@Getter
+	public enum Metric {
+		MEAN_TEAM_SCORE("Puntuación media por equipo"),
+		TEAM1_SCORE("Puntuación del equipo 1"),
+		FEMALE_WIN_RATE("Tasa de victorias femeninas");
+
+		private final String label; // Nombre legible de la métrica
+
+		private Metric(String label) {
+			this.label = label;
+		}
+	}
+
+	private final double[][] sums; // Suma de cada métrica por réplica
+	private final long[] counts; // Partidos registrados por réplica
+
+	// @param replicates Número de réplicas.
+	public ConvergenceEstimator(int replicates) {
+		this.sums = new double[replicates][Metric.values().length];
+		this.counts = new long[replicates];
+	}
+
+	// Registra un partido terminado.
+	// @param replicate Réplica a la que pertenece el partido.
+	// @param match Partido terminado.
+	public void record(int replicate, Match match) {
+		int team1Score = match.obtainTeamScore(0);
+		int team2Score = match.obtainTeamScore(1);
+		double[] replicateSums = sums[replicate];
+		replicateSums[Metric.MEAN_TEAM_SCORE.ordinal()] += (team1Score + team2Score) / 2.0;
+		replicateSums[Metric.TEAM1_SCORE.ordinal()] += team1Score;
+		replicateSums[Metric.FEMALE_WIN_RATE.ordinal()] += "Mujer".equals(match.getWinnerGender().getName()) ? 1 : 0;
+		counts[replicate]++;
+	}
+
+	// Combina los acumulados de otro estimador con el mismo número de réplicas.
+	public void merge(ConvergenceEstimator other) {
+		for (int r = 0; r < counts.length; r++) {
+			for (int m = 0; m < sums[r].length; m++) {
+				sums[r][m] += other.sums[r][m];
+			}
+			counts[r] += other.counts[r];
+		}
+	}
+
+	// Obtiene el número de réplicas.
+	public int getReplicates() {
+		return counts.length;
+	}
+
+	// Escribe los acumulados en formato binario.
+	void writeTo(DataOutput out) throws IOException {
+		out.writeInt(counts.length);
+		for (int r = 0; r < counts.length; r++) {
+			out.writeLong(counts[r]);
+			for (double sum : sums[r]) {
+				out.writeDouble(sum);
+			}
+		}
+	}
+
+	// Lee los acumulados escritos con writeTo().
+	static ConvergenceEstimator readFrom(DataInput in) throws IOException {
+		ConvergenceEstimator estimator = new ConvergenceEstimator(in.readInt());
+		for (int r = 0; r < estimator.counts.length; r++) {
+			estimator.counts[r] = in.readLong();
+			for (int m = 0; m < estimator.sums[r].length; m++) {
+				estimator.sums[r][m] = in.readDouble();
+			}
+		}
+		return estimator;
+	}
+
+	// Estima una métrica como la media de las medias de cada réplica, con su error estándar.
+	// @param metric Métrica a estimar.
+	// @return Estimación; el error es NaN si hay menos de dos réplicas con datos.
+	public Estimate estimate(Metric metric) {
+		int used = 0;
+		double total = 0;
+		double totalSquares = 0;
+		for (int r = 0; r < counts.length; r++) {
+			if (counts[r] > 0) {
+				double replicateMean = sums[r][metric.ordinal()] / counts[r];
+				total += replicateMean;
+				totalSquares += replicateMean * replicateMean;
+				used++;
+			}
+		}
+		if (used == 0) {
+			return new Estimate(Double.NaN, Double.NaN);
+		}
+		double mean = total / used;
+		if (used < 2) {
+			return new Estimate(mean, Double.NaN);
+		}
+		double variance = Math.max(0, (totalSquares - used * mean * mean) / (used - 1));
+		return new Estimate(mean, Math.sqrt(variance / used));
+	}
+
+	// Genera un informe con la estimación de cada métrica.
+	// @param mode Modo de muestreo usado en la simulación.
+	public String report(SamplingMode mode) {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("Modo de muestreo : %s (%d réplicas)%n", mode.getLabel(), counts.length));
+		for (Metric metric : Metric.values()) {
+			report.append(String.format("%s : %s%n", metric.getLabel(), estimate(metric)));
+		}
+		return report.toString();
+	}
+}
@@ -0,0 +1,65 @@
+package org.archery.simulation.model;
+
+// Posición fija de cada sorteo importante dentro de un juego. En cuasi-Monte Carlo cada posición es
+// una dimensión de la secuencia de Halton, de modo que una dimensión corresponde siempre al mismo
+// sorteo en todos los juegos, aunque el número de flechas de cada ronda cambie con la resistencia.
+//
+// Las dimensiones se reparten por orden de influencia en las métricas: primero la preparación de
+// los arqueros (resistencia, suerte y género), que domina la varianza de la puntuación; después la
+// fatiga de cada arquero y ronda, que fija cuántas flechas quedan; y por último las flechas normales
+// (arquero × ronda × flecha) con un presupuesto fijo de flechas por ronda. El resto de sorteos
+// (suerte de cada ronda, disparos aleatorios y extra, desempates) no tiene posición fija.
+final class DrawSlot {
+
+	static final int NONE = -1; // Sorteo sin posición fija
+	static final int ARCHERS = SimulationStatistics.MAX_ARCHER_ID; // Arqueros por juego
+	static final int ROUNDS = 10; // Rondas por juego
+	static final int ARROWS_PER_ROUND = 9; // Flechas por arquero y ronda con posición fija (resistencia 45 / 5)
+
+	private static final int SETUP_DRAWS = 3; // Resistencia, suerte y género de cada arquero
+	static final int SETUP_DIMENSIONS = ARCHERS * SETUP_DRAWS; // Dimensiones de la preparación de los arqueros
+	private static final int FATIGUE_START = SETUP_DIMENSIONS;
+	private static final int ARROW_START = FATIGUE_START + ARCHERS * ROUNDS;
+
+	// Dimensiones necesarias para cubrir todas las posiciones.
+	static final int DIMENSIONS = ARROW_START + ARCHERS * ROUNDS * ARROWS_PER_ROUND;
+
+	private DrawSlot() {
+	}
+
+	// Resistencia inicial de un arquero (identificador 1-10).
+	static int resistance(int archerId) {
+		return setup(archerId, 0);
+	}
+
+	// Suerte inicial de un arquero.
+	static int luck(int archerId) {
+		return setup(archerId, 1);
+	}
+
+	// Género de un arquero.
+	static int gender(int archerId) {
+		return setup(archerId, 2);
+	}
+
+	// Fatiga de un arquero al terminar una ronda (0-9).
+	static int fatigue(int archerId, int round) {
+		return valid(archerId, round) ? FATIGUE_START + round * ARCHERS + (archerId - 1) : NONE;
+	}
+
+	// Flecha normal de un arquero en una ronda; las que superan el presupuesto no tienen posición.
+	static int arrow(int archerId, int round, int arrow) {
+		if (!valid(archerId, round) || arrow >= ARROWS_PER_ROUND) {
+			return NONE;
+		}
+		return ARROW_START + (round * ARCHERS + (archerId - 1)) * ARROWS_PER_ROUND + arrow;
+	}
+
+	private static int setup(int archerId, int draw) {
+		return valid(archerId, 0) ? (archerId - 1) * SETUP_DRAWS + draw : NONE;
+	}
+
+	private static boolean valid(int archerId, int round) {
+		return archerId >= 1 && archerId <= ARCHERS && round >= 0 && round < ROUNDS;
+	}
+}
@@ -0,0 +1,26 @@
+package org.archery.simulation.model;
+
+import lombok.Getter;
+
+// Estimación de una métrica junto con su error estándar.
+@Getter
+public class Estimate {
+
+	private final double mean; // Valor estimado
+	private final double standardError; // Error estándar de la estimación
+
+	public Estimate(double mean, double standardError) {
+		this.mean = mean;
+		this.standardError = standardError;
+	}
+
+	// Error relativo de la estimación (error estándar dividido por la media).
+	public double getRelativeError() {
+		return mean == 0 ? Double.NaN : standardError / Math.abs(mean);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%.4f ± %.4f", mean, standardError);
+	}
+}
@@ -0,0 +1,321 @@
+package org.archery.simulation.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Calcula de forma exacta, por convolución y programación dinámica, las distribuciones de
+// puntuación que la simulación estima por Monte Carlo. Sirve de referencia para validar los
+// motores de disparos (ShotEngine) y los modos de muestreo.
+//
+// Reproduce las reglas de Archer y Match:
+// - Resistencia inicial uniforme en [25, 45] y género sorteado con nextInt(0, 2) (Gender(2) es mujer).
+// - En cada ronda el arquero lanza ceil(resistencia / 5) flechas con las precisiones de Gender;
+//   al terminar, la resistencia de la ronda siguiente es la de esta menos una fatiga uniforme en {1, 2}.
+// - La puntuación de ronda de un equipo es la suma de las de sus cinco arqueros (independientes).
+// - La puntuación de partido del equipo suma además un disparo aleatorio por ronda, que lanza el
+//   arquero con más suerte (uniforme entre los cinco, ya que la suerte es independiente de todo lo
+//   demás), y desde la tercera ronda un lanzamiento extra por cada arquero con exactamente tres
+//   disparos aleatorios ganados seguidos (Team.giveExtraLaunchForThreeConsecutiveExtraLaunch).
+//   La secuencia de ganadores se modela como una cadena de Markov sobre el arquero en racha y los
+//   arqueros que se quedaron con la cuenta en tres, condicionada al número de hombres del equipo.
+public class ExactScoreSolver {
+
+	public static final int ROUNDS = 10; // Rondas de cada partido
+	public static final int TEAM_SIZE = 5; // Arqueros de cada equipo
+	private static final int MIN_RESISTANCE = 25; // Resistencia inicial mínima (Archer)
+	private static final int MAX_RESISTANCE = 45; // Resistencia inicial máxima (Archer)
+	private static final int RESISTANCE_PER_LAUNCH = 5; // Resistencia que consume cada flecha
+	private static final int FIRST_EXTRA_ROUND = 3; // Primera ronda con lanzamientos extra
+	private static final int MALE = 0;
+	private static final int FEMALE = 1;
+
+	private final double maleProbability; // Probabilidad de que un arquero sea hombre
+	private final ScoreDistribution[] shots; // Puntuación de un lanzamiento por género
+	private final double[][] resistances; // Probabilidad de cada resistencia al empezar cada ronda
+	private final ScoreDistribution[][] archerRounds; // Puntuación de ronda por género y ronda
+	private final ScoreDistribution[] archerTotals; // Puntuación de partido de un arquero por género
+	private final Map<Integer, ScoreDistribution[]> launches; // Suma de n flechas por género
+
+	public ExactScoreSolver() {
+		int males = 0;
+		for (int value = 0; value <= 2; value++) { // Valores de nextInt(0, 2) en Archer
+			males += "Hombre".equals(new Gender(value).getName()) ? 1 : 0;
+		}
+		this.maleProbability = males / 3.0;
+		this.shots = new ScoreDistribution[] {shotDistribution(new Gender(0)), shotDistribution(new Gender(1))};
+		this.launches = new HashMap<>();
+		this.resistances = resistanceByRound();
+		this.archerRounds = new ScoreDistribution[2][ROUNDS];
+		this.archerTotals = new ScoreDistribution[2];
+		for (int gender = MALE; gender <= FEMALE; gender++) {
+			for (int round = 0; round < ROUNDS; round++) {
+				archerRounds[gender][round] = roundScore(gender, resistances[round]);
+			}
+			archerTotals[gender] = totalScore(gender);
+		}
+	}
+
+	// Obtiene la probabilidad de que un arquero sea hombre.
+	public double getMaleProbability() {
+		return maleProbability;
+	}
+
+	// Obtiene la distribución de la puntuación de un lanzamiento.
+	// @param gender Género (0 hombre, 1 mujer).
+	public ScoreDistribution shot(int gender) {
+		return shots[gender];
+	}
+
+	// Obtiene la distribución de la puntuación de un arquero en una ronda.
+	// @param round Ronda, desde 1.
+	public ScoreDistribution archerRoundScore(int round) {
+		return byGender(archerRounds[MALE][round - 1], archerRounds[FEMALE][round - 1]);
+	}
+
+	// Obtiene la distribución de la puntuación de ronda de un arquero tomada en una ronda al azar,
+	// que es lo que acumula el histograma "Puntuación de arquero por ronda".
+	public ScoreDistribution archerRoundScore() {
+		double[] weights = new double[ROUNDS];
+		ScoreDistribution[] rounds = new ScoreDistribution[ROUNDS];
+		for (int round = 1; round <= ROUNDS; round++) {
+			weights[round - 1] = 1.0 / ROUNDS;
+			rounds[round - 1] = archerRoundScore(round);
+		}
+		return ScoreDistribution.mixture(weights, rounds);
+	}
+
+	// Obtiene la distribución de la puntuación de las flechas de un arquero en todo el partido.
+	public ScoreDistribution archerTotalScore() {
+		return byGender(archerTotals[MALE], archerTotals[FEMALE]);
+	}
+
+	// Obtiene la distribución de la puntuación de ronda de un equipo (la que decide la ronda).
+	// @param round Ronda, desde 1.
+	public ScoreDistribution teamRoundScore(int round) {
+		return archerRoundScore(round).power(TEAM_SIZE);
+	}
+
+	// Obtiene la distribución de la puntuación de partido de un equipo (Team.getScore()), con las
+	// flechas, los disparos aleatorios y los lanzamientos extra.
+	public ScoreDistribution teamMatchScore() {
+		double[] weights = new double[TEAM_SIZE + 1];
+		ScoreDistribution[] components = new ScoreDistribution[TEAM_SIZE + 1];
+		for (int men = 0; men <= TEAM_SIZE; men++) {
+			weights[men] = binomial(TEAM_SIZE, men) * Math.pow(maleProbability, men)
+					* Math.pow(1 - maleProbability, TEAM_SIZE - men);
+			components[men] = archerTotals[MALE].power(men)
+					.convolve(archerTotals[FEMALE].power(TEAM_SIZE - men))
+					.convolve(bonusScore(men));
+		}
+		return ScoreDistribution.mixture(weights, components);
+	}
+
+	// Genera un informe con las distribuciones exactas.
+	public String report() {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("Distribuciones exactas (programación dinámica, P(hombre) = %.4f)%n", maleProbability));
+		report.append(shots[MALE].summary("Lanzamiento de un hombre"));
+		report.append(shots[FEMALE].summary("Lanzamiento de una mujer"));
+		for (int round = 1; round <= ROUNDS; round++) {
+			report.append(archerRoundScore(round).summary("Puntuación de arquero en la ronda " + round));
+		}
+		report.append(archerRoundScore().summary("Puntuación de arquero por ronda"));
+		report.append(archerTotalScore().summary("Puntuación de arquero por partido (flechas)"));
+		report.append(teamRoundScore(1).summary("Puntuación de equipo en la ronda 1"));
+		report.append(teamRoundScore(ROUNDS).summary("Puntuación de equipo en la ronda " + ROUNDS));
+		report.append(teamMatchScore().summary("Puntuación de equipo por partido"));
+		return report.toString();
+	}
+
+	// Compara las distribuciones exactas con los histogramas de una simulación: medias, percentiles
+	// y distancia de variación total.
+	// @param histograms Histogramas de SimulationStatistics.getHistograms(), en su orden.
+	public String compare(List<StreamingHistogram> histograms) {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("Validación frente a las distribuciones exactas%n"));
+		report.append(compare(histograms.get(0), teamMatchScore()));
+		report.append(compare(histograms.get(1), archerRoundScore()));
+		return report.toString();
+	}
+
+	private static String compare(StreamingHistogram histogram, ScoreDistribution exact) {
+		return String.format("%s : media %.3f (exacta %.3f), p50 %.0f (%d), p95 %.0f (%d), p99 %.0f (%d), distancia TV %.4f%n",
+				histogram.getName(), histogram.getMean(), exact.getMean(),
+				histogram.getValueAtQuantile(0.50), exact.getValueAtQuantile(0.50),
+				histogram.getValueAtQuantile(0.95), exact.getValueAtQuantile(0.95),
+				histogram.getValueAtQuantile(0.99), exact.getValueAtQuantile(0.99),
+				exact.totalVariationDistance(histogram));
+	}
+
+	// Puntuación de un lanzamiento con las precisiones de un género.
+	private static ScoreDistribution shotDistribution(Gender gender) {
+		double[] probabilities = new double[Shot.CENTRAL.getScore() + 1];
+		for (Shot shot : Shot.values()) {
+			probabilities[shot.getScore()] += gender.getPrecisionMap().get(shot);
+		}
+		return new ScoreDistribution(probabilities);
+	}
+
+	// Probabilidad de cada resistencia al empezar cada ronda: uniforme en la primera y, en las
+	// siguientes, la anterior menos una fatiga de 1 o 2 con la misma probabilidad.
+	private static double[][] resistanceByRound() {
+		double[][] resistances = new double[ROUNDS][MAX_RESISTANCE + 1];
+		for (int resistance = MIN_RESISTANCE; resistance <= MAX_RESISTANCE; resistance++) {
+			resistances[0][resistance] = 1.0 / (MAX_RESISTANCE - MIN_RESISTANCE + 1);
+		}
+		for (int round = 1; round < ROUNDS; round++) {
+			for (int resistance = 0; resistance <= MAX_RESISTANCE; resistance++) {
+				double probability = resistances[round - 1][resistance];
+				for (int fatigue = 1; fatigue <= 2 && probability > 0; fatigue++) {
+					resistances[round][Math.max(0, resistance - fatigue)] += probability / 2;
+				}
+			}
+		}
+		return resistances;
+	}
+
+	// Flechas que lanza un arquero con una resistencia (Archer.executeLaunch()).
+	private static int launchesFor(int resistance) {
+		return resistance > 0 ? (resistance + RESISTANCE_PER_LAUNCH - 1) / RESISTANCE_PER_LAUNCH : 0;
+	}
+
+	// Puntuación de n flechas de un género.
+	private ScoreDistribution launches(int gender, int n) {
+		return launches.computeIfAbsent(n, count -> new ScoreDistribution[] {
+				shots[MALE].power(count), shots[FEMALE].power(count)})[gender];
+	}
+
+	// Puntuación de una ronda de un arquero dado su género y la distribución de su resistencia.
+	private ScoreDistribution roundScore(int gender, double[] resistance) {
+		int maxLaunches = launchesFor(MAX_RESISTANCE);
+		double[] weights = new double[maxLaunches + 1];
+		for (int r = 0; r < resistance.length; r++) {
+			weights[launchesFor(r)] += resistance[r];
+		}
+		ScoreDistribution[] components = new ScoreDistribution[maxLaunches + 1];
+		for (int n = 0; n <= maxLaunches; n++) {
+			components[n] = launches(gender, n);
+		}
+		return ScoreDistribution.mixture(weights, components);
+	}
+
+	// Puntuación de las flechas de un arquero en todo el partido: programación dinámica sobre la
+	// resistencia de cada ronda, que decide las flechas y arrastra la fatiga acumulada.
+	private ScoreDistribution totalScore(int gender) {
+		ScoreDistribution[] byResistance = new ScoreDistribution[MAX_RESISTANCE + 1]; // Puntuación acumulada (sin normalizar)
+		for (int resistance = MIN_RESISTANCE; resistance <= MAX_RESISTANCE; resistance++) {
+			byResistance[resistance] = scale(ScoreDistribution.point(0), resistances[0][resistance]);
+		}
+		for (int round = 0; round < ROUNDS; round++) {
+			ScoreDistribution[] next = new ScoreDistribution[MAX_RESISTANCE + 1];
+			for (int resistance = 0; resistance <= MAX_RESISTANCE; resistance++) {
+				if (byResistance[resistance] == null) {
+					continue;
+				}
+				ScoreDistribution scored = byResistance[resistance].convolve(launches(gender, launchesFor(resistance)));
+				for (int fatigue = 1; fatigue <= 2; fatigue++) {
+					int remaining = Math.max(0, resistance - fatigue);
+					next[remaining] = add(next[remaining], scale(scored, 0.5));
+				}
+			}
+			byResistance = next;
+		}
+		ScoreDistribution total = null;
+		for (ScoreDistribution distribution : byResistance) {
+			if (distribution != null) {
+				total = add(total, distribution);
+			}
+		}
+		return total;
+	}
+
+	// Puntuación de los disparos aleatorios y los lanzamientos extra de un equipo con el número de
+	// hombres indicado. Estado de la cadena: género y cuenta (1, 2, 3 o 4 = cuatro o más) del arquero
+	// que ganó el último disparo aleatorio, y arqueros de cada género que se quedaron con la cuenta
+	// en tres. Ganar de nuevo sin continuidad reinicia la cuenta a 1.
+	private ScoreDistribution bonusScore(int men) {
+		Map<BonusState, ScoreDistribution> states = new HashMap<>();
+		states.put(new BonusState(-1, 0, 0, 0), ScoreDistribution.point(0));
+		for (int round = 1; round <= ROUNDS; round++) {
+			Map<BonusState, ScoreDistribution> next = new HashMap<>();
+			for (Map.Entry<BonusState, ScoreDistribution> entry : states.entrySet()) {
+				BonusState state = entry.getKey();
+				int[] dormant = {state.dormantMen, state.dormantWomen};
+				int[] others = {men - dormant[MALE], TEAM_SIZE - men - dormant[FEMALE]};
+				if (state.streakGender >= 0) {
+					others[state.streakGender]--;
+					// Gana otra vez el arquero en racha
+					transition(next, round, entry.getValue(), 1.0 / TEAM_SIZE, state.streakGender,
+							Math.min(state.count + 1, 4), dormant[MALE], dormant[FEMALE]);
+				}
+				for (int gender = MALE; gender <= FEMALE; gender++) {
+					// El arquero en racha pierde la racha; si su cuenta era tres se queda en tres
+					int[] after = dormant.clone();
+					if (state.streakGender >= 0 && state.count == 3) {
+						after[state.streakGender]++;
+					}
+					// Gana un arquero que se había quedado en tres: su cuenta vuelve a 1
+					if (dormant[gender] > 0) {
+						int[] winner = after.clone();
+						winner[gender]--;
+						transition(next, round, entry.getValue(), (double) dormant[gender] / TEAM_SIZE, gender, 1,
+								winner[MALE], winner[FEMALE]);
+					}
+					// Gana cualquier otro arquero
+					if (others[gender] > 0) {
+						transition(next, round, entry.getValue(), (double) others[gender] / TEAM_SIZE, gender, 1,
+								after[MALE], after[FEMALE]);
+					}
+				}
+			}
+			states = next;
+		}
+		ScoreDistribution total = null;
+		for (ScoreDistribution distribution : states.values()) {
+			total = add(total, distribution);
+		}
+		return total;
+	}
+
+	// Aplica una transición de la cadena: disparo aleatorio del ganador y lanzamientos extra.
+	private void transition(Map<BonusState, ScoreDistribution> next, int round, ScoreDistribution score,
+			double probability, int streakGender, int count, int dormantMen, int dormantWomen) {
+		ScoreDistribution scored = score.convolve(shots[streakGender]); // Disparo aleatorio
+		if (round >= FIRST_EXTRA_ROUND) {
+			int[] extra = {dormantMen, dormantWomen};
+			if (count == 3) {
+				extra[streakGender]++;
+			}
+			scored = scored.convolve(shots[MALE].power(extra[MALE])).convolve(shots[FEMALE].power(extra[FEMALE]));
+		}
+		next.merge(new BonusState(streakGender, count, dormantMen, dormantWomen), scale(scored, probability),
+				ExactScoreSolver::add);
+	}
+
+	// Mezcla las distribuciones de hombre y mujer con la probabilidad de cada género.
+	private ScoreDistribution byGender(ScoreDistribution male, ScoreDistribution female) {
+		return ScoreDistribution.mixture(new double[] {maleProbability, 1 - maleProbability},
+				new ScoreDistribution[] {male, female});
+	}
+
+	private static ScoreDistribution scale(ScoreDistribution distribution, double weight) {
+		return ScoreDistribution.mixture(new double[] {weight}, new ScoreDistribution[] {distribution});
+	}
+
+	private static ScoreDistribution add(ScoreDistribution a, ScoreDistribution b) {
+		return a == null ? b : ScoreDistribution.mixture(new double[] {1, 1}, new ScoreDistribution[] {a, b});
+	}
+
+	private static double binomial(int n, int k) {
+		double result = 1;
+		for (int i = 1; i <= k; i++) {
+			result = result * (n - k + i) / i;
+		}
+		return result;
+	}
+
+	// Estado de la cadena de disparos aleatorios de un equipo.
+	private record BonusState(int streakGender, int count, int dormantMen, int dormantWomen) {
+	}
+}
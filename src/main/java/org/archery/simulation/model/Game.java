@@ -1,58 +1,176 @@
 package org.archery.simulation.model;
 
-import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import org.archery.simulation.jfr.GameEvent;
+import org.archery.simulation.jfr.RoundPhaseEvent;
+
 // Clase que simula una serie de juegos de tiro con arco entre dos equipos.
 public class Game {
-	// Lista de partidos simulados
-	private final List<Match> matches; 
-	// Contador de victorias del equipo masculino
-	private int maleTeamVictories; 
-	// Contador de victorias del equipo femenino
-	private int femaleTeamVictories; 
-	// Equipo 1
-	private Team team1; 
-	// Equipo 2
-	private Team team2; 
-	// Puntuación total del equipo 1
-	private int totalTeam1Score; 
-	// Puntuación total del equipo 2
-	private int totalTeam2Score; 
+	// Configuración de la simulación
+	private final SimulationConfig config;
+	// Asignación de fuentes aleatorias y réplicas a cada juego
+	private final SamplingPlan samplingPlan;
+	// Estadísticas agregadas durante la simulación
+	private final SimulationStatistics statistics;
+	// Resultado de la simulación, del que salen los informes
+	private final SimulationResult result;
+	// Progreso y cancelación de la simulación
+	private final ProgressTracker progress;
 	// Constructor para la simulación del juego.
 	// @param numberOfGames Número de juegos a simular.
 	public Game(int numberOfGames) {
-		// Inicializa la lista de partidos
-		this.matches = new ArrayList<>(); 
-		// Inicializa el contador de victorias del equipo masculino
-		this.maleTeamVictories = 0; 
-		// Inicializa el contador de victorias del equipo femenino
-		this.femaleTeamVictories = 0; 
-		// Inicializa la puntuación total del equipo 1
-		this.totalTeam1Score = 0; 
-		// Inicializa la puntuación total del equipo 2
-		this.totalTeam2Score = 0; 
+		this(new SimulationConfig(numberOfGames));
+	}
+	// Prepara una simulación sin iniciarla, para seguir su progreso, pausarla o cancelarla.
+	// @param config Configuración de la simulación.
+	// @return Simulación preparada; se inicia con start() o run().
+	public static SimulationHandle prepare(SimulationConfig config) {
+		return new SimulationHandle(config);
+	}
+	// Constructor para la simulación del juego a partir de una configuración completa.
+	// @param config Configuración de la simulación (juegos, semilla, modo de muestreo e hilos).
+	public Game(SimulationConfig config) {
+		this(config, null, new ProgressTracker());
+	}
+	// Constructor para la simulación del juego con un grupo de hilos compartido y seguimiento del progreso.
+	// @param config Configuración de la simulación.
+	// @param executor Grupo de hilos donde se reparten los juegos, o null para crear uno propio.
+	// @param progress Seguimiento del progreso; si se cancela, el constructor lanza CancellationException.
+	public Game(SimulationConfig config, ExecutorService executor, ProgressTracker progress) {
+		this(config, 0, executor, progress);
+	}
+	// Constructor que simula solo los juegos [firstGame, numberOfGames) de la configuración.
+	// Como cada juego depende únicamente de la semilla y de su índice, el resultado puede
+	// combinarse con el de los juegos anteriores para extender una simulación ya hecha.
+	// @param config Configuración de la simulación.
+	// @param firstGame Índice del primer juego a simular.
+	// @param executor Grupo de hilos donde se reparten los juegos, o null para crear uno propio.
+	// @param progress Seguimiento del progreso; si se cancela, el constructor lanza CancellationException.
+	public Game(SimulationConfig config, int firstGame, ExecutorService executor, ProgressTracker progress) {
+		if (firstGame < 0 || firstGame > config.getNumberOfGames()) {
+			throw new IllegalArgumentException("Primer juego fuera de rango: " + firstGame);
+		}
+		if (config.getShotEngine() == ShotEngine.BATCHED
+				&& (config.getListenerFactory() != SimulationListener.Factory.NONE || config.isSensitivity()
+						|| config.getRareEvent() != null)) {
+			throw new IllegalArgumentException("El motor por lotes no notifica cada flecha y no admite observadores");
+		}
+		if (config.getShotEngine() == ShotEngine.BATCHED && config.getSamplingMode() == SamplingMode.QUASI_MONTE_CARLO) {
+			// El motor por lotes siembra cada ronda con un único sorteo: las flechas no tendrían su dimensión
+			throw new IllegalArgumentException("El motor por lotes no admite el muestreo cuasi-Monte Carlo");
+		}
+		if (config.getShotEngine() == ShotEngine.BATCHED
+				&& config.getRules().getMaxResistance() > 5 * ShotKernel.MAX_LAUNCHES) {
+			// Cada flecha gasta 5 de resistencia y el núcleo por lotes cuenta como mucho MAX_LAUNCHES por ronda
+			throw new IllegalArgumentException("El motor por lotes admite una resistencia inicial de hasta "
+					+ 5 * ShotKernel.MAX_LAUNCHES + ": " + config.getRules().getMaxResistance());
+		}
+		if (config.getRareEvent() != null && config.isSensitivity()) {
+			throw new IllegalArgumentException("La sensibilidad no admite el muestreo por importancia");
+		}
+		if (!config.getRules().isNominal() && (config.isSensitivity() || config.getRareEvent() != null)) {
+			// Ambos estimadores usan las precisiones originales de Gender
+			throw new IllegalArgumentException("Las reglas modificadas no admiten la sensibilidad ni el muestreo por importancia");
+		}
+		this.config = config;
+		this.progress = progress;
+		this.samplingPlan = new SamplingPlan(config);
+		// Inicializa las estadísticas agregadas
+		this.statistics = new SimulationStatistics(config, samplingPlan.getReplicates());
+		this.result = new SimulationResult(config, statistics);
 		// Inicia la simulación
-		runSimulation(numberOfGames); 
+		progress.start(config.getNumberOfGames() - firstGame);
+		runSimulation(firstGame, config.getNumberOfGames(), executor); 
 	}
-	// Ejecuta la simulación de los juegos.
-	// @param numberOfGames Número de juegos a simular.
-	private void runSimulation(int numberOfGames) {
-		for (int i = 0; i < numberOfGames; i++) {
-			initTeams(); // Inicializa los equipos para cada juego
-			Match currentMatch = new Match(team1, team2); // Crea un nuevo partido
-			matches.add(currentMatch); // Agrega el partido a la lista de partidos
-			simulateRounds(currentMatch); // Simula las rondas del partido actual
-			currentMatch.calculateWinnerByGender(); // Determina el ganador por género
+	// Ejecuta la simulación de los juegos, repartiéndolos en bloques contiguos si hay varios hilos.
+	// Cada bloque acumula sus propias estadísticas y al final se combinan en orden.
+	// @param firstGame Índice del primer juego a simular.
+	// @param endGame Índice siguiente al último juego a simular.
+	// @param sharedExecutor Grupo de hilos compartido, o null para crear uno propio.
+	private void runSimulation(int firstGame, int endGame, ExecutorService sharedExecutor) {
+		int numberOfGames = endGame - firstGame;
+		int threads = Math.max(1, Math.min(config.getThreads(), numberOfGames));
+		if (threads == 1) {
+			simulateGames(firstGame, endGame, statistics);
+			return;
+		}
+		ExecutorService executor = sharedExecutor != null ? sharedExecutor : Executors.newFixedThreadPool(threads);
+		List<Future<?>> batches = new ArrayList<>();
+		try {
+			List<SimulationStatistics> batchStatistics = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				int from = firstGame + (int) ((long) numberOfGames * t / threads);
+				int to = firstGame + (int) ((long) numberOfGames * (t + 1) / threads);
+				SimulationStatistics local = new SimulationStatistics(config, samplingPlan.getReplicates());
+				batchStatistics.add(local);
+				batches.add(executor.submit(() -> simulateGames(from, to, local)));
+			}
+			for (int t = 0; t < threads; t++) {
+				batches.get(t).get();
+				statistics.merge(batchStatistics.get(t));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Simulación interrumpida", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof CancellationException cancellation) {
+				throw cancellation;
+			}
+			throw new IllegalStateException("Error durante la simulación", e.getCause());
+		} finally {
+			if (sharedExecutor == null) {
+				executor.shutdownNow();
+			} else {
+				batches.forEach(batch -> batch.cancel(true)); // Libera el grupo compartido si algo falló
+			}
 		}
 	}
-	// Inicializa los equipos para cada juego.
-	private void initTeams() {
-		team1 = createTeam(1, createArcherList(1, 5)); // Crea el equipo 1 con arqueros del 1 al 5
-		team2 = createTeam(2, createArcherList(6, 10)); // Crea el equipo 2 con arqueros del 6 al 10
+	// Simula un rango de juegos.
+	// @param from Índice del primer juego (incluido).
+	// @param to Índice del último juego (excluido).
+	// @param stats Estadísticas confinadas al hilo que ejecuta el rango.
+	private void simulateGames(int from, int to, SimulationStatistics stats) {
+		SimulationListener listener = config.getListenerFactory().create(from); // Observador del bloque
+		if (stats.getSensitivity() != null) {
+			listener = SimulationListener.compose(listener, stats.getSensitivity()); // Recibe también los lanzamientos
+		}
+		ImportanceSampler sampler = stats.getImportanceSampler(); // Sorteos inclinados, o null
+		if (sampler != null) {
+			listener = SimulationListener.compose(listener, sampler); // Sigue las rachas y reinicia los pesos
+		}
+		BatchedRound batch = config.getShotEngine() == ShotEngine.BATCHED
+				? new BatchedRound(ShotKernels.preferred()) : null; // Núcleo de disparos del bloque
+		try {
+			for (int i = from; i < to; i++) {
+				progress.checkpoint(); // Pausa y cancelación cooperativas antes de cada juego
+				listener.onGameStart(i);
+				GameEvent event = GameEvent.start(i); // Evento JFR del juego
+				RandomSource rng = samplingPlan.sourceFor(i); // Fuente aleatoria del juego
+				Match currentMatch = new Match(createTeam(1, createArcherList(1, 5), rng, listener, sampler), // Equipo 1 con arqueros del 1 al 5
+						createTeam(2, createArcherList(6, 10), rng, listener, sampler)); // Equipo 2 con arqueros del 6 al 10
+				if (sampler != null) {
+					sampler.startMatch(currentMatch); // Elige el equipo favorecido antes del primer lanzamiento
+				}
+				simulateRounds(i, currentMatch, rng, batch, stats); // Simula las rondas del partido actual
+				currentMatch.calculateWinnerByGender(); // Determina el ganador por género
+				event.finish(currentMatch.obtainTeamScore(0), currentMatch.obtainTeamScore(1),
+						currentMatch.getWinnerGender().getName());
+				stats.recordMatch(i, samplingPlan.replicateOf(i), currentMatch); // Acumula las estadísticas del partido
+				listener.onGameEnd(i, currentMatch);
+				progress.gameCompleted();
+			}
+		} finally {
+			listener.close();
+		}
 	}
 	// Crea una lista de identificadores de arqueros a partir del rango especificado.
 	// @param start El ID inicial de los arqueros.
@@ -66,27 +184,48 @@ public class Game {
 	// Crea un equipo de arqueros.
 	// @param teamId Identificador del equipo.
 	// @param archerIds Lista de identificadores de los arqueros.
+	// @param rng Fuente de números aleatorios del juego.
+	// @param listener Observador de los sorteos de los arqueros.
+	// @param sampler Muestreo por importancia de los sorteos, o null para los nominales.
 	// @return El equipo creado.
-	private Team createTeam(int teamId, List<Integer> archerIds) {
+	private Team createTeam(int teamId, List<Integer> archerIds, RandomSource rng, SimulationListener listener,
+			ImportanceSampler sampler) {
 		List<Archer> archers = new ArrayList<>(); // Lista para almacenar arqueros
 		for (Integer id : archerIds) {
-			archers.add(new Archer(id)); // Crea y añade arqueros al equipo
+			archers.add(new Archer(id, rng, listener, sampler, config.getRules())); // Crea y añade arqueros al equipo
 		}
 		return new Team(archers, teamId); // Retorna el equipo creado
 	}
 	// Simula las rondas de un partido.
+	// Cada fase de la ronda se registra como un evento JFR (RoundPhaseEvent), desactivado por defecto.
+	// @param gameIndex Índice del juego, para los eventos JFR.
 	// @param match El partido a simular.
-	private void simulateRounds(Match match) {
+	// @param rng Fuente aleatoria del juego.
+	// @param batch Núcleo de disparos por lotes, o null para sortear arquero a arquero.
+	// @param stats Estadísticas donde se registran las puntuaciones de cada ronda.
+	private void simulateRounds(int gameIndex, Match match, RandomSource rng, BatchedRound batch, SimulationStatistics stats) {
 		for (int round = 0; round < 10; round++) { // Simula 10 rondas
-			simulateArchersRound(match); // Simula la ronda de los arqueros
+			RoundPhaseEvent phase = RoundPhaseEvent.start(gameIndex, round + 1, RoundPhaseEvent.SHOTS);
+			if (batch != null) {
+				batch.execute(match, rng); // Sortea a la vez las flechas de todos los arqueros
+			} else {
+				simulateArchersRound(match); // Simula la ronda de los arqueros
+			}
+			phase = phase.next(RoundPhaseEvent.RANDOM_SHOT);
 			match.giveRandomShot(); // Determina aleatoriamente quién obtiene un disparo extra
 			if (round >= 2) {
+				phase = phase.next(RoundPhaseEvent.EXTRA_SHOTS);
 				match.giveExtraLaunchByThreeLaunch(); // Otorga un lanzamiento extra después de 2 rondas
 			}
+			phase = phase.next(RoundPhaseEvent.ARCHER_WINNER);
 			match.calculateWinnerArcherByRound(); // Determina el arquero ganador de la ronda
+			phase = phase.next(RoundPhaseEvent.TEAM_WINNER);
 			match.calculateWinnerTeamByRound(); // Determina el equipo ganador de la ronda
 			match.increaseRounds(); // Incrementa el contador de rondas
+			phase = phase.next(RoundPhaseEvent.STATISTICS);
+			stats.recordRound(match); // Registra las puntuaciones de la ronda antes de restablecerlas
 			match.resetRoundPoints(); // Restaura los puntos perdidos en la ronda actual
+			phase.finish();
 		}
 	}
 	// Simula la ronda de los arqueros en un partido.
@@ -101,85 +240,71 @@ public class Game {
 	// Obtiene las estadísticas de victorias por género.
 	// @return El género con más victorias.
 	public String getGenderWinStatistics() {
-		calculateVictoriesByGender(); // Calcula las victorias por género
-		return maleTeamVictories > femaleTeamVictories ? "Hombre" : "Mujer"; // Retorna el género con más victorias
-	}
-	// Calcula las victorias por género a partir de los juegos simulados.
-	private void calculateVictoriesByGender() {
-		for (Match match : matches) {
-			if ("Hombre".equals(match.getWinnerGender().getName())) {
-				maleTeamVictories++; // Incrementa el contador de victorias masculinas
-			} else {
-				femaleTeamVictories++; // Incrementa el contador de victorias femeninas
-			}
-		}
+		return result.getGenderWinStatistics();
 	}
 	// Obtiene el equipo ganador de la simulación.
-	// @return Una cadena con el equipo ganador y su puntaje total.
+	// @return Una cadena con el equipo ganador.
 	public String getWinningTeam() {
-		calculateTeamScores(); // Calcula los puntajes totales de los equipos
-		Team winningTeam = totalTeam1Score > totalTeam2Score ? team1 : team2; // Determina el equipo ganador
-		return String.format("Equipo %d", winningTeam.getTeamId()); // Formatea y retorna la información del equipo ganador
+		return result.getWinningTeam();
 	}
 	// Obtiene los puntos del equipo ganador.
 	public String getPoints() {
-		calculateTeamScores(); // Calcula los puntajes totales de los equipos
-		int winningPoints = Math.max(totalTeam1Score, totalTeam2Score); // Obtiene los puntos del equipo ganador
-		return String.format(formatPoints(winningPoints)); // Formatea y retorna la información del equipo ganador
-	}
-	// Calcula los puntajes de los equipos a partir de los partidos simulados.
-	private void calculateTeamScores() {
-		for (Match match : matches) {
-			totalTeam1Score += match.obtainTeamScore(0); // Suma el puntaje del equipo 1
-			totalTeam2Score += match.obtainTeamScore(1); // Suma el puntaje del equipo 2
-		}
-	}
-	// Formatea los puntos en una cadena con separadores de miles.
-	// @param points Puntos a formatear.
-	// @return Representación en cadena de los puntos formateados.
-	private String formatPoints(int points) {
-		return new DecimalFormat("#,###,###,##0").format(points); // Formatea los puntos con separadores de miles
+		return result.getPoints();
 	}
-	// Obtiene la lista de arqueros con más suerte por partido.
-	// @return Una cadena con información sobre los arqueros afortunados.
+	// Obtiene la clasificación de los arqueros con más suerte.
+	// @return Una cadena con los arqueros afortunados.
 	public String getLuckyArchers() {
-		StringBuilder luckyArchers = new StringBuilder(); // StringBuilder para acumular resultados
-		for (int i = 0; i < matches.size(); i++) {
-			Archer luckyArcher = matches.get(i).obtainMostLuckArcher(); // Obtiene el arquero con más suerte del partido
-			luckyArchers.append(String.format("Partido %d : Arquero %d Total de lanzamientos ganados : %d%n",
-					i + 1, luckyArcher.getArcherId(), luckyArcher.getTotalLuck())); // Agrega la información del arquero afortunado
-		}
-		return luckyArchers.toString(); // Retorna la información de los arqueros afortunados
+		return result.getLuckyArchers();
 	}
-	// Obtiene la lista de arqueros con más experiencia por partido.
-	// @return Una cadena con información sobre los arqueros experimentados.
+	// Obtiene la clasificación de los arqueros con más experiencia.
+	// @return Una cadena con los arqueros experimentados.
 	public String getExperiencedArchers() {
-		StringBuilder experiencedArchers = new StringBuilder(); // StringBuilder para acumular resultados
-		for (int i = 0; i < matches.size(); i++) {
-			Archer experiencedArcher = matches.get(i).getMostExperiencedArcher(); // Obtiene el arquero con más experiencia del partido
-			experiencedArchers.append(String.format("Partido %d : Arquero %d Experiencia total adquirida : %d%n",
-					i + 1, experiencedArcher.getArcherId(), experiencedArcher.getExperience())); // Agrega la información del arquero experimentado
-		}
-		return experiencedArchers.toString(); // Retorna la información de los arqueros experimentados
+		return result.getExperiencedArchers();
+	}
+	// Obtiene la clasificación de los partidos con más puntos.
+	// @return Una cadena con los partidos con más puntos.
+	public String getTopMatches() {
+		return result.getTopMatches();
 	}
 	// Obtiene el género ganador por partido.
 	// @return Una cadena con el género ganador de cada partido.
 	public String getGendersByMatch() {
-		StringBuilder gendersByMatch = new StringBuilder(); // StringBuilder para acumular resultados
-		for (int i = 0; i < matches.size(); i++) {
-			gendersByMatch.append(String.format("Partido %d : %s%n",
-					i + 1, matches.get(i).getWinnerGender().getName())); // Agrega la información del género ganador
-		}
-		return gendersByMatch.toString(); // Retorna la información de los géneros ganadores
-	}
-	// Obtiene la lista de todos los arqueros de los juegos simulados.
-	// @return Una lista de arqueros.
-	public List<Archer> getAllArchers() {
-		List<Archer> archers = new ArrayList<>(); // Lista para almacenar todos los arqueros
-		for (Match match : matches) {
-			archers.addAll(match.obtainAllArchers()); // Agrega todos los arqueros de cada partido
-		}
-		return archers; // Retorna la lista de todos los arqueros
+		return result.getGendersByMatch();
+	}
+	// Obtiene las estimaciones de las métricas agregadas con su error estándar entre réplicas,
+	// para comparar la convergencia del modo cuasi-Monte Carlo con el pseudoaleatorio.
+	// @return Una cadena con la estimación de cada métrica.
+	public String getConvergenceReport() {
+		return result.getConvergenceReport();
+	}
+	// Obtiene la estimación de una métrica agregada.
+	// @param metric Métrica a estimar.
+	public Estimate estimate(ConvergenceEstimator.Metric metric) {
+		return result.estimate(metric);
+	}
+	// Obtiene los histogramas de puntuaciones, suerte y experiencia acumulados durante la simulación.
+	public List<StreamingHistogram> getHistograms() {
+		return result.getHistograms();
+	}
+	// Obtiene un resumen con la media y los percentiles p50/p95/p99 de cada histograma.
+	public String getDistributionReport() {
+		return result.getDistributionReport();
+	}
+	// Obtiene las estadísticas de carrera por arquero, acumuladas durante la simulación.
+	public CareerStore getCareerStore() {
+		return result.getCareerStore();
+	}
+	// Obtiene un informe con las estadísticas de carrera de cada arquero.
+	public String getCareerReport() {
+		return result.getCareerReport();
+	}
+	// Obtiene las estadísticas agregadas de la simulación.
+	public SimulationStatistics getStatistics() {
+		return statistics;
+	}
+	// Obtiene el resultado de la simulación.
+	public SimulationResult getResult() {
+		return result;
 	}
 
 }
@@ -18,6 +18,17 @@ public class Gender {
         precisionMap = new HashMap<>(); // Inicializa el mapa de precisión
         assignGender(gender); // Asigna el género y su precisión correspondiente
     }
+    // Constructor que toma las precisiones de unas reglas modificadas en lugar de las originales.
+    // @param gender Valor que representa el género (0 para hombre, 1 para mujer).
+    // @param rules Reglas de la simulación.
+    public Gender(int gender, RuleParameters rules) {
+        this(gender);
+        if (rules != RuleParameters.NOMINAL) {
+            for (Shot shot : Shot.values()) {
+                precisionMap.put(shot, rules.getPrecision(gender, shot)); // Sustituye la precisión original
+            }
+        }
+    }
     // Asigna el nombre y las estadísticas de precisión en función del género.
     // @param gender Valor que representa el género (0 para hombre, 1 para mujer).
     public void assignGender(int gender) {
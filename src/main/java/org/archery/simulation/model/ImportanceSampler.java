@@ -0,0 +1,330 @@
+package org.archery.simulation.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Map;
+
+import lombok.Getter;
+
+// Muestreo por importancia para sucesos raros (RareEvent). Sustituye los sorteos de lanzamientos,
+// fatiga y suerte de los arqueros por sorteos de una distribución inclinada hacia el suceso
+// objetivo, y pondera cada partido con la razón de verosimilitud W = p(x) / q(x) de todos sus
+// sorteos, de modo que la media de W · 1{suceso} estima sin sesgo su probabilidad nominal.
+//
+// Inclinaciones, con intensidad tau (tau = 0 reproduce los sorteos nominales):
+// - Lanzamientos: q_k ∝ p_k · exp(±theta · tau · puntos_k), + para el equipo favorecido (el de menos
+//   resistencia inicial) y - para el otro.
+// - Fatiga: el equipo favorecido saca 1 con probabilidad 1 / (1 + exp(-0.2 · tau)) y el otro con la complementaria.
+// - Suerte: la del arquero que lleva al menos dos disparos aleatorios seguidos sigue una exponencial
+//   truncada en [1, 3) en lugar de la uniforme; inclinar también las rachas de uno encarece W sin
+//   acercar más la racha larga.
+// Las inclinaciones solo dependen de sorteos ya hechos (resistencias, disparos aleatorios
+// anteriores), así que el producto de las razones de cada sorteo sigue siendo una W válida.
+//
+// El error estándar se calcula entre réplicas, igual que en ConvergenceEstimator. Recibe los
+// eventos del partido como observador del bloque de juegos al que pertenece (confinado al hilo).
+public class ImportanceSampler implements SimulationListener {
+
+	private static final int EVENTS = RareEvent.values().length;
+	private static final int TEAM_SIZE = 5; // Los arqueros 1-5 forman el equipo 1 y los 6-10 el equipo 2
+	private static final int ROUNDS = 10; // Rondas de cada partido
+	private static final int MIN_RUN = 2; // Racha a partir de la que se inclina la suerte del arquero
+	private static final double SHOT_TILT = 0.04; // theta por punto de lanzamiento con tau = 1
+	private static final double FATIGUE_TILT = 0.2; // Logit de la fatiga 1 del equipo favorecido con tau = 1
+	private static final double LUCK_TILT = 1.0; // Parámetro de la exponencial truncada con tau = 1
+
+	@Getter
+	private final RareEvent target; // Suceso hacia el que se inclinan los sorteos
+	@Getter
+	private final double tilt; // Intensidad de la inclinación (tau)
+	private final double[][][] shotThresholds; // Umbrales acumulados [género][favorecido 0 / otro 1][impacto]
+	private final double[][][] shotLogRatios; // log(q/p) de cada impacto [género][favorecido 0 / otro 1][impacto]
+	private final double[][] nominalThresholds; // Umbrales acumulados nominales [género][impacto]
+	private final double fatigueOne; // Probabilidad de fatiga 1 del equipo favorecido
+	private final double luckTilt; // Parámetro de la suerte inclinada, 0 si no se inclina
+
+	private final long[] counts; // Partidos registrados por réplica
+	private final double[][] weightedHits; // Suma de W · 1{suceso} por réplica
+	private final long[][] hits; // Partidos con el suceso (sin ponderar) por réplica
+
+	// Estado del partido en curso
+	private int favoured; // Equipo con menos resistencia inicial (0 o 1), o -1 si empatan
+	private double logWeight; // log(q/p) acumulado de los sorteos del partido
+	private final Archer[] lastRandomWinner; // Ganador del último disparo aleatorio de cada equipo
+	private final int[] runs; // Racha actual de disparos aleatorios del último ganador de cada equipo
+	private int longestRun; // Racha más larga del partido
+
+	// @param target Suceso hacia el que se inclinan los sorteos.
+	// @param tilt Intensidad de la inclinación (0 = sorteos nominales).
+	// @param replicates Número de réplicas.
+	public ImportanceSampler(RareEvent target, double tilt, int replicates) {
+		if (tilt < 0) {
+			throw new IllegalArgumentException("La inclinación no puede ser negativa");
+		}
+		this.target = target;
+		this.tilt = tilt;
+		this.counts = new long[replicates];
+		this.weightedHits = new double[replicates][EVENTS];
+		this.hits = new long[replicates][EVENTS];
+		this.lastRandomWinner = new Archer[2];
+		this.runs = new int[2];
+
+		double shotTilt = target == RareEvent.UNDERDOG_SWEEP ? SHOT_TILT * tilt : 0;
+		this.fatigueOne = target == RareEvent.UNDERDOG_SWEEP ? 1 / (1 + Math.exp(-FATIGUE_TILT * tilt)) : 0.5;
+		this.luckTilt = target == RareEvent.LONG_STREAK ? LUCK_TILT * tilt : 0;
+		this.shotThresholds = new double[2][2][];
+		this.shotLogRatios = new double[2][2][];
+		this.nominalThresholds = new double[2][Shot.values().length];
+		for (int gender = 0; gender < 2; gender++) {
+			Map<Shot, Double> precision = new Gender(gender).getPrecisionMap();
+			double nominal = 0;
+			for (Shot shot : Shot.values()) {
+				nominal += precision.get(shot);
+				nominalThresholds[gender][shot.ordinal()] = nominal;
+			}
+			for (int side = 0; side < 2; side++) {
+				double theta = side == 0 ? shotTilt : -shotTilt;
+				double normalization = 0;
+				for (Shot shot : Shot.values()) {
+					normalization += precision.get(shot) * Math.exp(theta * shot.getScore());
+				}
+				double[] thresholds = new double[Shot.values().length];
+				double[] logRatios = new double[Shot.values().length];
+				double cumulative = 0;
+				for (Shot shot : Shot.values()) {
+					double p = precision.get(shot);
+					double q = p * Math.exp(theta * shot.getScore()) / normalization;
+					cumulative += q;
+					thresholds[shot.ordinal()] = cumulative;
+					logRatios[shot.ordinal()] = Math.log(q / p);
+				}
+				shotThresholds[gender][side] = thresholds;
+				shotLogRatios[gender][side] = logRatios;
+			}
+		}
+	}
+
+	@Override
+	public void onGameStart(int gameIndex) {
+		favoured = -1;
+		logWeight = 0;
+		lastRandomWinner[0] = null;
+		lastRandomWinner[1] = null;
+		runs[0] = 0;
+		runs[1] = 0;
+		longestRun = 0;
+	}
+
+	// Elige el equipo favorecido una vez creados los arqueros, antes de su primer lanzamiento.
+	// @param match Partido que va a empezar.
+	void startMatch(Match match) {
+		int resistance1 = initialResistance(match.getTeams()[0]);
+		int resistance2 = initialResistance(match.getTeams()[1]);
+		favoured = resistance1 == resistance2 ? -1 : resistance1 < resistance2 ? 0 : 1;
+	}
+
+	// Sortea el resultado de un lanzamiento con la distribución inclinada.
+	// @param archer Arquero que lanza.
+	// @param rng Fuente aleatoria del juego.
+	// @return El tipo de impacto obtenido.
+	Shot drawShot(Archer archer, RandomSource rng) {
+		int team = teamOf(archer);
+		int gender = genderOf(archer);
+		if (favoured < 0) {
+			return pick(nominalThresholds[gender], rng.nextDouble()); // Sin equipo favorecido no hay nada que inclinar
+		}
+		int side = team == favoured ? 0 : 1;
+		Shot shot = pick(shotThresholds[gender][side], rng.nextDouble());
+		logWeight += shotLogRatios[gender][side][shot.ordinal()];
+		return shot;
+	}
+
+	// Sortea la fatiga (1 o 2) con la distribución inclinada.
+	int drawFatigue(Archer archer, RandomSource rng) {
+		if (favoured < 0) {
+			return rng.nextInt(1, 2);
+		}
+		double one = teamOf(archer) == favoured ? fatigueOne : 1 - fatigueOne;
+		int fatigue = rng.nextDouble() < one ? 1 : 2;
+		logWeight += Math.log(2 * (fatigue == 1 ? one : 1 - one)); // La nominal es 1/2 para cada valor
+		return fatigue;
+	}
+
+	// Sortea la suerte en [1, 3): inclinada para el arquero con una racha en curso de su equipo.
+	double drawLuck(Archer archer, RandomSource rng) {
+		double u = rng.nextDouble();
+		int team = teamOf(archer);
+		if (luckTilt == 0 || archer != lastRandomWinner[team] || runs[team] < MIN_RUN) {
+			return 1 + u * 2;
+		}
+		// Exponencial truncada: q(x) = theta · exp(theta (x - 1)) / (exp(2 theta) - 1), frente a p(x) = 1/2
+		double span = Math.expm1(2 * luckTilt);
+		double offset = Math.log1p(u * span) / luckTilt;
+		double logRatio = Math.log(2 * luckTilt / span) + luckTilt * offset;
+		logWeight += logRatio;
+		return Math.min(1 + offset, Math.nextDown(3.0));
+	}
+
+	@Override
+	public void onShot(Archer archer, Shot shot, ShotKind kind) {
+		if (kind != ShotKind.RANDOM) {
+			return;
+		}
+		int team = teamOf(archer);
+		runs[team] = archer == lastRandomWinner[team] ? runs[team] + 1 : 1;
+		lastRandomWinner[team] = archer;
+		longestRun = Math.max(longestRun, runs[team]);
+	}
+
+	// Registra un partido terminado con los pesos acumulados desde onGameStart().
+	// @param replicate Réplica a la que pertenece el partido.
+	// @param match Partido terminado.
+	public void record(int replicate, Match match) {
+		counts[replicate]++;
+		boolean sweep = favoured >= 0 && match.getTeams()[favoured].getRoundsWon() == ROUNDS;
+		boolean streak = longestRun >= RareEvent.STREAK_LENGTH;
+		if (!sweep && !streak) {
+			return;
+		}
+		double weight = Math.exp(-logWeight); // W = p / q
+		if (sweep) {
+			weightedHits[replicate][RareEvent.UNDERDOG_SWEEP.ordinal()] += weight;
+			hits[replicate][RareEvent.UNDERDOG_SWEEP.ordinal()]++;
+		}
+		if (streak) {
+			weightedHits[replicate][RareEvent.LONG_STREAK.ordinal()] += weight;
+			hits[replicate][RareEvent.LONG_STREAK.ordinal()]++;
+		}
+	}
+
+	// Combina los acumulados de otro muestreador con la misma configuración.
+	public void merge(ImportanceSampler other) {
+		for (int r = 0; r < counts.length; r++) {
+			counts[r] += other.counts[r];
+			for (int e = 0; e < EVENTS; e++) {
+				weightedHits[r][e] += other.weightedHits[r][e];
+				hits[r][e] += other.hits[r][e];
+			}
+		}
+	}
+
+	// Estima la probabilidad nominal de un suceso como la media de las réplicas, con su error estándar.
+	// @return Estimación; el error es NaN si hay menos de dos réplicas con datos.
+	public Estimate estimate(RareEvent event) {
+		int used = 0;
+		double total = 0;
+		double totalSquares = 0;
+		for (int r = 0; r < counts.length; r++) {
+			if (counts[r] > 0) {
+				double mean = weightedHits[r][event.ordinal()] / counts[r];
+				total += mean;
+				totalSquares += mean * mean;
+				used++;
+			}
+		}
+		if (used == 0) {
+			return new Estimate(Double.NaN, Double.NaN);
+		}
+		double mean = total / used;
+		if (used < 2) {
+			return new Estimate(mean, Double.NaN);
+		}
+		double variance = Math.max(0, (totalSquares - used * mean * mean) / (used - 1));
+		return new Estimate(mean, Math.sqrt(variance / used));
+	}
+
+	// Obtiene el número de partidos simulados en los que ocurrió el suceso (sin ponderar).
+	public long getHits(RareEvent event) {
+		long total = 0;
+		for (long[] replicate : hits) {
+			total += replicate[event.ordinal()];
+		}
+		return total;
+	}
+
+	// Obtiene el número de partidos registrados.
+	public long getGames() {
+		long total = 0;
+		for (long count : counts) {
+			total += count;
+		}
+		return total;
+	}
+
+	// Genera un informe con la probabilidad estimada de cada suceso, su error relativo y el error
+	// relativo que tendría Monte Carlo simple con el mismo número de partidos.
+	public String report() {
+		long games = getGames();
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("Sucesos raros (muestreo por importancia hacia \"%s\", inclinación %.2f, %d réplicas)%n",
+				target.getLabel(), tilt, counts.length));
+		for (RareEvent event : RareEvent.values()) {
+			Estimate estimate = estimate(event);
+			double p = estimate.getMean();
+			double plainError = Math.sqrt((1 - p) / (games * p));
+			report.append(String.format("  %s : %.3e ± %.1e (error relativo %.1f %%, %d partidos con el suceso; "
+					+ "Monte Carlo simple: %.1f %%)%n", event.getLabel(), p, estimate.getStandardError(),
+					100 * estimate.getRelativeError(), getHits(event), 100 * plainError));
+		}
+		report.append(String.format("  El resto de estadísticas se ha simulado con la distribución inclinada%n"));
+		return report.toString();
+	}
+
+	// Escribe la configuración y los acumulados en formato binario.
+	void writeTo(DataOutput out) throws IOException {
+		out.writeByte(target.ordinal());
+		out.writeDouble(tilt);
+		out.writeInt(counts.length);
+		for (int r = 0; r < counts.length; r++) {
+			out.writeLong(counts[r]);
+			for (int e = 0; e < EVENTS; e++) {
+				out.writeDouble(weightedHits[r][e]);
+				out.writeLong(hits[r][e]);
+			}
+		}
+	}
+
+	// Lee un muestreador escrito con writeTo().
+	static ImportanceSampler readFrom(DataInput in) throws IOException {
+		RareEvent target = RareEvent.values()[in.readUnsignedByte()];
+		double tilt = in.readDouble();
+		ImportanceSampler sampler = new ImportanceSampler(target, tilt, in.readInt());
+		for (int r = 0; r < sampler.counts.length; r++) {
+			sampler.counts[r] = in.readLong();
+			for (int e = 0; e < EVENTS; e++) {
+				sampler.weightedHits[r][e] = in.readDouble();
+				sampler.hits[r][e] = in.readLong();
+			}
+		}
+		return sampler;
+	}
+
+	// Elige el impacto cuyo umbral acumulado alcanza u, en el mismo orden que Archer.
+	private static Shot pick(double[] thresholds, double u) {
+		if (u <= thresholds[Shot.CENTRAL.ordinal()]) {
+			return Shot.CENTRAL;
+		} else if (u <= thresholds[Shot.INTERMEDIATE.ordinal()]) {
+			return Shot.INTERMEDIATE;
+		} else if (u <= thresholds[Shot.OUTSIDE.ordinal()]) {
+			return Shot.OUTSIDE;
+		}
+		return Shot.ERROR;
+	}
+
+	private static int initialResistance(Team team) {
+		int total = 0;
+		for (Archer archer : team.getArchers()) {
+			total += archer.getInitialResistance();
+		}
+		return total;
+	}
+
+	private static int teamOf(Archer archer) {
+		return archer.getArcherId() <= TEAM_SIZE ? 0 : 1;
+	}
+
+	private static int genderOf(Archer archer) {
+		return "Hombre".equals(archer.getGender().getName()) ? 0 : 1;
+	}
+}
@@ -0,0 +1,100 @@
+package org.archery.simulation.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+import lombok.Getter;
+
+// Clasificación de las K mejores entradas de una simulación, en memoria O(K) sea cual sea el número
+// de juegos. Se guarda en un montículo con la peor entrada en la raíz: una entrada nueva solo entra
+// si supera a esa raíz. El orden debe ser total (desempatando por el índice del juego) para que el
+// resultado no dependa del reparto entre hilos. Cada hilo usa su propia clasificación y al final se
+// combinan con merge().
+public class Leaderboard<T> {
+
+	// Escribe una entrada en formato binario.
+	@FunctionalInterface
+	interface EntryWriter<T> {
+		void write(T entry, DataOutput out) throws IOException;
+	}
+
+	// Lee una entrada escrita con un EntryWriter.
+	@FunctionalInterface
+	interface EntryReader<T> {
+		T read(DataInput in) throws IOException;
+	}
+
+	@Getter
+	private final String name; // Nombre de la clasificación
+	@Getter
+	private final int capacity; // Número máximo de entradas (K)
+	private final Comparator<T> order; // Orden de la clasificación, la mejor entrada primero
+	private final PriorityQueue<T> heap; // Entradas conservadas, con la peor en la raíz
+
+	// @param name Nombre de la clasificación.
+	// @param capacity Número máximo de entradas.
+	// @param order Orden total de las entradas, la mejor primero.
+	public Leaderboard(String name, int capacity, Comparator<T> order) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("La capacidad de la clasificación no puede ser negativa: " + capacity);
+		}
+		this.name = name;
+		this.capacity = capacity;
+		this.order = order;
+		this.heap = new PriorityQueue<>(Math.max(1, capacity), order.reversed());
+	}
+
+	// Propone una entrada; se conserva si está entre las K mejores vistas hasta ahora.
+	public void offer(T entry) {
+		if (heap.size() < capacity) {
+			heap.add(entry);
+		} else if (capacity > 0 && order.compare(entry, heap.peek()) < 0) {
+			heap.poll(); // Descarta la peor entrada
+			heap.add(entry);
+		}
+	}
+
+	// Combina las entradas de otra clasificación con el mismo orden.
+	public void merge(Leaderboard<T> other) {
+		other.heap.forEach(this::offer);
+	}
+
+	// Obtiene las entradas ordenadas de la mejor a la peor.
+	public List<T> getEntries() {
+		List<T> entries = new ArrayList<>(heap);
+		entries.sort(order);
+		return entries;
+	}
+
+	// Genera un informe con una línea numerada por entrada.
+	// @param format Texto de cada entrada.
+	public String report(Function<T, String> format) {
+		StringBuilder report = new StringBuilder();
+		List<T> entries = getEntries();
+		for (int i = 0; i < entries.size(); i++) {
+			report.append(String.format("%d. %s%n", i + 1, format.apply(entries.get(i))));
+		}
+		return report.toString();
+	}
+
+	void writeTo(DataOutput out, EntryWriter<T> writer) throws IOException {
+		out.writeInt(heap.size());
+		for (T entry : heap) {
+			writer.write(entry, out);
+		}
+	}
+
+	// Lee sobre esta clasificación las entradas escritas con writeTo().
+	void readFrom(DataInput in, EntryReader<T> reader) throws IOException {
+		int size = in.readInt();
+		for (int i = 0; i < size; i++) {
+			offer(reader.read(in));
+		}
+	}
+}
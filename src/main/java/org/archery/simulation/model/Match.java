@@ -3,6 +3,8 @@ package org.archery.simulation.model;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.archery.simulation.jfr.TiebreakEvent;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -40,21 +42,25 @@ public class Match {
 		if (archerA == null || archerB == null) {
 			throw new IllegalArgumentException("Los arqueros no pueden ser nulos"); // Validación de entrada
 		}
+		TiebreakEvent event = TiebreakEvent.start(archerA.getArcherId(), archerB.getArcherId()); // Evento JFR del desempate
 		int scoreA = archerA.getRoundScore(); // Obtiene el puntaje del arquero A
 		int scoreB = archerB.getRoundScore(); // Obtiene el puntaje del arquero B
+		int iterations = 0; // Tandas de desempate lanzadas
 		// Continua hasta que se resuelva el empate
 		while (scoreA == scoreB) {
 			scoreA = calculateNewScore(archerA); // Calcula un nuevo puntaje para el arquero A
 			scoreB = calculateNewScore(archerB); // Calcula un nuevo puntaje para el arquero B
+			iterations++;
 		}
 		Archer winner = scoreA > scoreB ? archerA : archerB; // Determina el arquero ganador
+		event.finish(iterations, winner.getArcherId());
 		winner.increaseRoundsWon(); // Incrementa las rondas ganadas por el ganador
 		return winner; // Retorna el arquero ganador
 	}
 
 	// Calcula un nuevo puntaje para el arquero dado basado en su desempeño
 	private int calculateNewScore(Archer archer) {
-		return archer.calculateScoreLaunch(); // Calcula y retorna el nuevo puntaje del arquero
+		return archer.calculateScoreLaunch(ShotKind.TIEBREAK); // Calcula y retorna el nuevo puntaje del arquero
 	}
 
 	// Determina el arquero ganador del partido según el número de rondas ganadas
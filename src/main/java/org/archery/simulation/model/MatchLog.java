@@ -0,0 +1,116 @@
+package org.archery.simulation.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+// Registro compacto de los datos por partido que muestran los informes: el arquero con más
+// suerte, el arquero con más experiencia y el género ganador. Cada partido ocupa un único int
+// en lugar de conservar los objetos Match con sus diez arqueros.
+public class MatchLog {
+
+	// Distribución de los bits de cada registro.
+	private static final int ID_BITS = 4; // Identificador de arquero (1-10)
+	private static final int LUCK_BITS = 8; // Suerte total acumulada
+	private static final int EXPERIENCE_BITS = 10; // Experiencia total
+	private static final int LUCK_SHIFT = ID_BITS;
+	private static final int EXPERIENCED_ID_SHIFT = LUCK_SHIFT + LUCK_BITS;
+	private static final int EXPERIENCE_SHIFT = EXPERIENCED_ID_SHIFT + ID_BITS;
+	private static final int MALE_SHIFT = EXPERIENCE_SHIFT + EXPERIENCE_BITS;
+
+	private int[] records; // Un registro empaquetado por partido
+	private int size; // Número de partidos registrados
+
+	public MatchLog() {
+		this.records = new int[64];
+	}
+
+	// Registra un partido terminado.
+	// @param match Partido terminado, con el género ganador ya calculado.
+	public void record(Match match) {
+		Archer lucky = match.obtainMostLuckArcher();
+		Archer experienced = match.getMostExperiencedArcher();
+		int record = lucky.getArcherId()
+				| Math.min(lucky.getTotalLuck(), (1 << LUCK_BITS) - 1) << LUCK_SHIFT
+				| experienced.getArcherId() << EXPERIENCED_ID_SHIFT
+				| Math.min(experienced.getExperience(), (1 << EXPERIENCE_BITS) - 1) << EXPERIENCE_SHIFT
+				| ("Hombre".equals(match.getWinnerGender().getName()) ? 1 : 0) << MALE_SHIFT;
+		add(record);
+	}
+
+	// Agrega al final los partidos de otro registro.
+	public void append(MatchLog other) {
+		ensureCapacity(size + other.size);
+		System.arraycopy(other.records, 0, records, size, other.size);
+		size += other.size;
+	}
+
+	// Obtiene el número de partidos registrados.
+	public int size() {
+		return size;
+	}
+
+	// Identificador del arquero con más suerte del partido.
+	public int getLuckyArcherId(int match) {
+		return field(match, 0, ID_BITS);
+	}
+
+	// Suerte total del arquero con más suerte del partido.
+	public int getLuckyArcherLuck(int match) {
+		return field(match, LUCK_SHIFT, LUCK_BITS);
+	}
+
+	// Identificador del arquero con más experiencia del partido.
+	public int getExperiencedArcherId(int match) {
+		return field(match, EXPERIENCED_ID_SHIFT, ID_BITS);
+	}
+
+	// Experiencia del arquero con más experiencia del partido.
+	public int getExperience(int match) {
+		return field(match, EXPERIENCE_SHIFT, EXPERIENCE_BITS);
+	}
+
+	// Nombre del género ganador del partido.
+	public String getWinnerGender(int match) {
+		return field(match, MALE_SHIFT, 1) == 1 ? "Hombre" : "Mujer";
+	}
+
+	// Escribe el registro en formato binario.
+	void writeTo(DataOutput out) throws IOException {
+		out.writeInt(size);
+		for (int i = 0; i < size; i++) {
+			out.writeInt(records[i]);
+		}
+	}
+
+	// Lee un registro escrito con writeTo().
+	static MatchLog readFrom(DataInput in) throws IOException {
+		MatchLog log = new MatchLog();
+		int size = in.readInt();
+		log.ensureCapacity(size);
+		for (int i = 0; i < size; i++) {
+			log.records[i] = in.readInt();
+		}
+		log.size = size;
+		return log;
+	}
+
+	private int field(int match, int shift, int bits) {
+		if (match < 0 || match >= size) {
+			throw new IndexOutOfBoundsException("Partido fuera de rango: " + match);
+		}
+		return (records[match] >>> shift) & ((1 << bits) - 1);
+	}
+
+	private void add(int record) {
+		ensureCapacity(size + 1);
+		records[size++] = record;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > records.length) {
+			records = Arrays.copyOf(records, Math.max(capacity, records.length * 2));
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package org.archery.simulation.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Comparator;
+
+import lombok.Getter;
+
+// Puntuaciones finales de un partido, para la clasificación de los partidos con más puntos.
+@Getter
+public class MatchRecord {
+
+	// Orden de la clasificación: mayor puntuación total primero y, a igualdad, el partido anterior.
+	public static final Comparator<MatchRecord> BEST_FIRST = Comparator
+			.comparingInt(MatchRecord::getTotalScore).reversed()
+			.thenComparingInt(MatchRecord::getGameIndex);
+
+	private final int gameIndex; // Índice del juego
+	private final int team1Score; // Puntuación del equipo 1
+	private final int team2Score; // Puntuación del equipo 2
+
+	public MatchRecord(int gameIndex, int team1Score, int team2Score) {
+		this.gameIndex = gameIndex;
+		this.team1Score = team1Score;
+		this.team2Score = team2Score;
+	}
+
+	// Obtiene la puntuación de los dos equipos.
+	public int getTotalScore() {
+		return team1Score + team2Score;
+	}
+
+	void writeTo(DataOutput out) throws IOException {
+		out.writeInt(gameIndex);
+		out.writeInt(team1Score);
+		out.writeInt(team2Score);
+	}
+
+	static MatchRecord readFrom(DataInput in) throws IOException {
+		return new MatchRecord(in.readInt(), in.readInt(), in.readInt());
+	}
+}
@@ -0,0 +1,36 @@
+package org.archery.simulation.model;
+
+import java.time.Duration;
+
+import lombok.Getter;
+
+// Estado de una simulación en un instante, tal como se entrega a los observadores de progreso.
+@Getter
+public class ProgressSnapshot {
+
+	private final int completedGames; // Juegos terminados
+	private final int totalGames; // Juegos previstos
+	private final double gamesPerSecond; // Velocidad media sin contar las pausas
+	private final Duration estimatedRemaining; // Tiempo estimado restante, o null si aún no se conoce
+	private final boolean paused; // Indica si la simulación está en pausa
+
+	ProgressSnapshot(ProgressTracker progress) {
+		this.completedGames = progress.getCompletedGames();
+		this.totalGames = progress.getTotalGames();
+		this.gamesPerSecond = progress.getGamesPerSecond();
+		this.estimatedRemaining = progress.getEstimatedRemaining();
+		this.paused = progress.isPaused();
+	}
+
+	// Obtiene la fracción de juegos terminados, en el rango [0, 1].
+	public double getProgress() {
+		return totalGames == 0 ? 0 : (double) completedGames / totalGames;
+	}
+
+	@Override
+	public String toString() {
+		String eta = estimatedRemaining == null ? "?" : estimatedRemaining.toSeconds() + " s";
+		return String.format("%d/%d juegos (%.1f %%), %.0f juegos/s, restante %s%s", completedGames, totalGames,
+				getProgress() * 100, gamesPerSecond, eta, paused ? " [en pausa]" : "");
+	}
+}
@@ -0,0 +1,127 @@
+package org.archery.simulation.model;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Seguimiento del progreso de una simulación, con cancelación y pausa cooperativas.
+// La simulación pasa por checkpoint() antes de cada juego: mientras no haya pausa ni cancelación
+// solo lee dos campos volátiles, por lo que el coste es despreciable. Es seguro entre hilos.
+public class ProgressTracker {
+
+	private final AtomicInteger completedGames = new AtomicInteger(); // Juegos terminados
+	private volatile int totalGames; // Juegos previstos
+	private volatile boolean cancelled; // Indica si se ha pedido cancelar la simulación
+	private volatile boolean paused; // Indica si se ha pedido pausar la simulación
+	private long startNanos; // Inicio de la simulación (protegido por this)
+	private long pauseStartNanos; // Inicio de la pausa en curso (protegido por this)
+	private long pausedNanos; // Tiempo total en pausa (protegido por this)
+
+	// Obtiene el número de juegos terminados.
+	public int getCompletedGames() {
+		return completedGames.get();
+	}
+
+	// Obtiene el número total de juegos previstos.
+	public int getTotalGames() {
+		return totalGames;
+	}
+
+	// Obtiene la fracción de juegos terminados, en el rango [0, 1].
+	public double getProgress() {
+		int total = totalGames;
+		return total == 0 ? 0 : (double) completedGames.get() / total;
+	}
+
+	// Pide la cancelación de la simulación; también despierta a los hilos en pausa.
+	public synchronized void cancel() {
+		cancelled = true;
+		resume(); // Termina la pausa en curso, si la hay
+		notifyAll();
+	}
+
+	// Indica si se ha pedido la cancelación.
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	// Pausa la simulación: cada hilo se detiene antes de empezar su siguiente juego.
+	public synchronized void pause() {
+		if (!paused && !cancelled) {
+			paused = true;
+			pauseStartNanos = System.nanoTime();
+		}
+	}
+
+	// Reanuda una simulación en pausa.
+	public synchronized void resume() {
+		if (paused) {
+			paused = false;
+			pausedNanos += System.nanoTime() - pauseStartNanos;
+			notifyAll();
+		}
+	}
+
+	// Indica si la simulación está en pausa.
+	public boolean isPaused() {
+		return paused;
+	}
+
+	// Obtiene el tiempo de simulación transcurrido desde el inicio, sin contar las pausas.
+	public synchronized Duration getActiveTime() {
+		if (startNanos == 0) {
+			return Duration.ZERO;
+		}
+		long end = paused ? pauseStartNanos : System.nanoTime();
+		return Duration.ofNanos(end - startNanos - pausedNanos);
+	}
+
+	// Obtiene la velocidad media de la simulación en juegos por segundo, sin contar las pausas.
+	public double getGamesPerSecond() {
+		double seconds = getActiveTime().toNanos() / 1e9;
+		return seconds == 0 ? 0 : completedGames.get() / seconds;
+	}
+
+	// Estima el tiempo que falta con la velocidad media, o null si todavía no se puede estimar.
+	public Duration getEstimatedRemaining() {
+		int remaining = totalGames - completedGames.get();
+		if (remaining <= 0) {
+			return Duration.ZERO;
+		}
+		double rate = getGamesPerSecond();
+		return rate == 0 ? null : Duration.ofNanos((long) (remaining / rate * 1e9));
+	}
+
+	// Registra el inicio de la simulación.
+	synchronized void start(int totalGames) {
+		this.totalGames = totalGames;
+		this.startNanos = System.nanoTime();
+	}
+
+	// Punto de control antes de simular un juego: espera mientras haya una pausa y lanza
+	// CancellationException si se ha pedido cancelar (o si se interrumpe el hilo en pausa).
+	void checkpoint() {
+		if (paused) {
+			awaitResume();
+		}
+		if (cancelled) {
+			throw new CancellationException("Simulación cancelada");
+		}
+	}
+
+	// Registra un juego terminado.
+	void gameCompleted() {
+		completedGames.incrementAndGet();
+	}
+
+	private synchronized void awaitResume() {
+		while (paused && !cancelled) {
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CancellationException("Simulación interrumpida durante la pausa");
+			}
+		}
+	}
+}
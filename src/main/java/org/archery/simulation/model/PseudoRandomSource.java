@@ -0,0 +1,38 @@
+package org.archery.simulation.model;
+
+// Fuente pseudoaleatoria clásica basada en el generador congruencial lineal del proyecto.
+// Es el modo de muestreo por defecto de la simulación.
+public class PseudoRandomSource implements RandomSource {
+
+	private static final long MODULUS = 1L << 31; // Módulo del generador congruencial
+	private final LinearCongruentialGenerator rng; // Generador subyacente
+
+	// Crea la fuente a partir de una semilla arbitraria de 64 bits.
+	// @param seed Semilla del generador.
+	public PseudoRandomSource(long seed) {
+		// La semilla se reduce al rango del módulo para que el primer paso no desborde
+		this.rng = new LinearCongruentialGenerator(mix(seed) & (MODULUS - 1), 1103515245, 12345, MODULUS);
+	}
+
+	@Override
+	public double nextDouble() {
+		return rng.nextDouble();
+	}
+
+	// Deriva la semilla de un juego concreto a partir de la semilla de la simulación,
+	// de forma que cada juego es independiente del orden en el que se ejecuta.
+	// @param seed Semilla de la simulación.
+	// @param index Índice del juego (o de cualquier otro flujo derivado).
+	// @return Semilla derivada.
+	public static long deriveSeed(long seed, long index) {
+		return mix(seed + (index + 1) * 0x9E3779B97F4A7C15L);
+	}
+
+	// Función de mezcla SplitMix64: dispersa los bits de la semilla para evitar correlaciones
+	// entre semillas consecutivas.
+	static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
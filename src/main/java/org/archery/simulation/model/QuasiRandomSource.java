@@ -0,0 +1,34 @@
+package org.archery.simulation.model;
+
+// Fuente cuasi-aleatoria de un juego: el juego corresponde a un punto de la secuencia de Halton
+// aleatorizada y cada sorteo con posición fija (DrawSlot) toma la dimensión de su posición, de modo
+// que la dimensión k es el mismo sorteo en todos los juegos. Los sorteos sin posición fija y los
+// que quedan fuera de las dimensiones cubiertas se completan con la fuente pseudoaleatoria.
+public class QuasiRandomSource implements RandomSource {
+
+	private final ScrambledHalton sequence; // Secuencia aleatorizada de la réplica
+	private final long pointIndex; // Punto de la secuencia asignado al juego
+	private final RandomSource padding; // Fuente de los sorteos no cubiertos por la secuencia
+
+	// @param sequence Secuencia aleatorizada de la réplica del juego.
+	// @param pointIndex Índice del punto asignado al juego.
+	// @param padding Fuente de los sorteos sin posición fija o fuera de las dimensiones de la secuencia.
+	public QuasiRandomSource(ScrambledHalton sequence, long pointIndex, RandomSource padding) {
+		this.sequence = sequence;
+		this.pointIndex = pointIndex;
+		this.padding = padding;
+	}
+
+	@Override
+	public double nextDouble() {
+		return padding.nextDouble();
+	}
+
+	@Override
+	public double nextDouble(int slot) {
+		if (slot >= 0 && slot < sequence.getDimensions()) {
+			return sequence.coordinate(pointIndex, slot);
+		}
+		return padding.nextDouble();
+	}
+}
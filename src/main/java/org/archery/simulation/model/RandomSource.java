@@ -0,0 +1,30 @@
+package org.archery.simulation.model;
+
+// Fuente de números aleatorios que alimenta todos los sorteos de un juego (resistencia, suerte,
+// género, fatiga y cada lanzamiento). Cada juego recibe su propia instancia, de modo que la
+// simulación es reproducible a partir de la semilla y puede repartirse entre varios hilos.
+public interface RandomSource {
+
+	// Genera un número decimal en el rango [0, 1).
+	double nextDouble();
+
+	// Genera un número entero en el rango [min, max], ambos incluidos.
+	default int nextInt(int min, int max) {
+		int value = min + (int) (nextDouble() * (max - min + 1));
+		return Math.min(value, max); // Protege contra redondeos cuando nextDouble() se acerca a 1
+	}
+
+	// Genera un número decimal en el rango [0, 1) para un sorteo con posición fija dentro del juego
+	// (ver DrawSlot). Solo la fuente cuasi-aleatoria usa la posición; el resto devuelve el siguiente
+	// número de su secuencia, así que el resultado no cambia respecto a nextDouble().
+	// @param slot Posición del sorteo, o DrawSlot.NONE.
+	default double nextDouble(int slot) {
+		return nextDouble();
+	}
+
+	// Genera un número entero en el rango [min, max] para un sorteo con posición fija.
+	default int nextInt(int min, int max, int slot) {
+		int value = min + (int) (nextDouble(slot) * (max - min + 1));
+		return Math.min(value, max);
+	}
+}
@@ -0,0 +1,28 @@
+package org.archery.simulation.model;
+
+import lombok.Getter;
+
+// Sucesos raros que ImportanceSampler estima con muestreo por importancia. El suceso elegido como
+// objetivo decide hacia dónde se inclinan los sorteos; los dos se estiman en cada simulación.
+@Getter
+public enum RareEvent {
+
+	// El equipo con menos resistencia inicial gana las 10 rondas del partido. La resistencia se
+	// arrastra de una ronda a otra, así que el equipo con más resistencia suele ganar casi todas; se
+	// inclinan los lanzamientos y la fatiga a favor del equipo con menos resistencia.
+	UNDERDOG_SWEEP("El equipo con menos resistencia gana las 10 rondas"),
+
+	// Un arquero gana el disparo aleatorio de su equipo en STREAK_LENGTH rondas seguidas. Se inclina
+	// hacia arriba la suerte del arquero que ganó el disparo aleatorio de la ronda anterior.
+	LONG_STREAK("Un arquero gana " + RareEvent.STREAK_LENGTH + " disparos aleatorios seguidos");
+
+	// Rondas seguidas con el disparo aleatorio que forman una racha larga.
+	public static final int STREAK_LENGTH = 6;
+
+	// Nombre legible del suceso.
+	private final String label;
+
+	private RareEvent(String label) {
+		this.label = label;
+	}
+}
@@ -0,0 +1,132 @@
+package org.archery.simulation.model;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+// Parámetros de las reglas que la simulación toma de Gender y Archer: la precisión de cada impacto
+// por género y el intervalo de la resistencia inicial. ERROR actúa como residuo, igual que en
+// SensitivityEstimator: su probabilidad es 1 menos la suma de las otras tres. Es inmutable, así
+// que una misma instancia puede compartirse entre todos los hilos de la simulación.
+public class RuleParameters {
+
+	private static final int SHOTS_PER_GENDER = 3; // CENTRAL, INTERMEDIATE y OUTSIDE; ERROR es el residuo
+	private static final double TOLERANCE = 1e-9; // Margen de redondeo al comprobar que las precisiones suman 1
+
+	// Reglas originales de Gender y Archer.
+	public static final RuleParameters NOMINAL = new RuleParameters(
+			nominalPrecisions(0), nominalPrecisions(1), 25, 45);
+
+	private final double[][] precisions; // Precisión de cada impacto por género [género][Shot.ordinal()]
+	private final int minResistance; // Resistencia inicial mínima
+	private final int maxResistance; // Resistencia inicial máxima
+
+	// @param malePrecisions Precisiones de CENTRAL, INTERMEDIATE y OUTSIDE para los hombres.
+	// @param femalePrecisions Precisiones de CENTRAL, INTERMEDIATE y OUTSIDE para las mujeres.
+	// @param minResistance Resistencia inicial mínima.
+	// @param maxResistance Resistencia inicial máxima.
+	public RuleParameters(double[] malePrecisions, double[] femalePrecisions, int minResistance, int maxResistance) {
+		if (minResistance < 1 || maxResistance < minResistance) {
+			throw new IllegalArgumentException(
+					"Intervalo de resistencia inicial no válido: " + minResistance + "-" + maxResistance);
+		}
+		this.precisions = new double[][] {withError(malePrecisions), withError(femalePrecisions)};
+		this.minResistance = minResistance;
+		this.maxResistance = maxResistance;
+	}
+
+	// Obtiene la precisión de un impacto.
+	// @param gender Valor de género de Gender (0 hombre, cualquier otro mujer).
+	// @param shot Impacto.
+	public double getPrecision(int gender, Shot shot) {
+		return precisions[gender == 0 ? 0 : 1][shot.ordinal()];
+	}
+
+	// Obtiene las precisiones de CENTRAL, INTERMEDIATE y OUTSIDE de un género.
+	public double[] getPrecisions(int gender) {
+		return Arrays.copyOf(precisions[gender == 0 ? 0 : 1], SHOTS_PER_GENDER);
+	}
+
+	public int getMinResistance() {
+		return minResistance;
+	}
+
+	public int getMaxResistance() {
+		return maxResistance;
+	}
+
+	// Indica si las reglas coinciden con las originales.
+	public boolean isNominal() {
+		return equals(NOMINAL);
+	}
+
+	// Sortea la resistencia inicial de un arquero.
+	int drawResistance(RandomSource rng, int slot) {
+		return rng.nextInt(minResistance, maxResistance, slot);
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (!(other instanceof RuleParameters rules)) {
+			return false;
+		}
+		// ERROR se deriva de las otras tres precisiones, así que no se compara
+		for (int gender = 0; gender < 2; gender++) {
+			if (!Arrays.equals(precisions[gender], 0, SHOTS_PER_GENDER, rules.precisions[gender], 0, SHOTS_PER_GENDER)) {
+				return false;
+			}
+		}
+		return minResistance == rules.minResistance && maxResistance == rules.maxResistance;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 31 * minResistance + maxResistance;
+		for (int gender = 0; gender < 2; gender++) {
+			hash = 31 * hash + Arrays.hashCode(Arrays.copyOf(precisions[gender], SHOTS_PER_GENDER));
+		}
+		return hash;
+	}
+
+	// Texto con todas las reglas; se usa también como parte de la clave de la caché de resultados.
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder();
+		for (int gender = 0; gender < 2; gender++) {
+			text.append(new Gender(gender).getName());
+			for (Shot shot : Shot.values()) {
+				text.append(String.format(Locale.ROOT, " %s=%.6f", shot.name(), precisions[gender][shot.ordinal()]));
+			}
+			text.append(", ");
+		}
+		return text.append("resistencia ").append(minResistance).append('-').append(maxResistance).toString();
+	}
+
+	// Completa las precisiones de un género con la de ERROR y comprueba que formen una distribución.
+	private static double[] withError(double[] shots) {
+		if (shots.length != SHOTS_PER_GENDER) {
+			throw new IllegalArgumentException("Se esperan las precisiones de CENTRAL, INTERMEDIATE y OUTSIDE");
+		}
+		double[] precision = Arrays.copyOf(shots, Shot.values().length);
+		double sum = 0;
+		for (int k = 0; k < SHOTS_PER_GENDER; k++) {
+			if (!(precision[k] >= 0)) {
+				throw new IllegalArgumentException("Precisión no válida: " + precision[k]);
+			}
+			sum += precision[k];
+		}
+		if (sum > 1 + TOLERANCE) {
+			throw new IllegalArgumentException("Las precisiones de un género suman más de 1: " + sum);
+		}
+		precision[Shot.ERROR.ordinal()] = Math.max(0, 1 - sum);
+		return precision;
+	}
+
+	private static double[] nominalPrecisions(int gender) {
+		Gender nominal = new Gender(gender);
+		double[] precision = new double[SHOTS_PER_GENDER];
+		for (int k = 0; k < SHOTS_PER_GENDER; k++) {
+			precision[k] = nominal.getPrecisionMap().get(Shot.values()[k]);
+		}
+		return precision;
+	}
+}
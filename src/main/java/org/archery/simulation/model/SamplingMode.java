@@ -0,0 +1,22 @@
+package org.archery.simulation.model;
+
+import lombok.Getter;
+
+// Modo de muestreo con el que se generan los sorteos de cada juego.
+@Getter
+public enum SamplingMode {
+
+	// Muestreo pseudoaleatorio clásico: el error converge como 1/sqrt(N).
+	PSEUDO_RANDOM("Pseudoaleatorio"),
+
+	// Cuasi-Monte Carlo aleatorizado con una secuencia de Halton: para métricas suaves
+	// (puntuación media de equipo) converge más rápido que el modo pseudoaleatorio.
+	QUASI_MONTE_CARLO("Cuasi-Monte Carlo");
+
+	// Nombre legible del modo.
+	private final String label;
+
+	private SamplingMode(String label) {
+		this.label = label;
+	}
+}
@@ -0,0 +1,51 @@
+package org.archery.simulation.model;
+
+// Asigna a cada juego su fuente de números aleatorios y su réplica.
+// Los juegos se reparten entre las réplicas de forma intercalada (juego i -> réplica i % R),
+// así cada réplica recorre los primeros puntos de su secuencia sea cual sea el número de juegos.
+// Es inmutable y puede compartirse entre hilos.
+public class SamplingPlan {
+
+	private final long seed; // Semilla de la simulación
+	private final int replicates; // Número de réplicas
+	private final ScrambledHalton[] sequences; // Secuencia de cada réplica (null en modo pseudoaleatorio)
+
+	// @param config Configuración de la simulación.
+	public SamplingPlan(SimulationConfig config) {
+		if (config.getReplicates() <= 0) {
+			throw new IllegalArgumentException("El número de réplicas debe ser positivo");
+		}
+		this.seed = config.getSeed();
+		this.replicates = config.getReplicates();
+		if (config.getSamplingMode() == SamplingMode.QUASI_MONTE_CARLO) {
+			sequences = new ScrambledHalton[replicates];
+			for (int r = 0; r < replicates; r++) {
+				sequences[r] = new ScrambledHalton(config.getQmcDimensions(), PseudoRandomSource.deriveSeed(~seed, r));
+			}
+		} else {
+			sequences = null;
+		}
+	}
+
+	// Obtiene el número de réplicas.
+	public int getReplicates() {
+		return replicates;
+	}
+
+	// Obtiene la réplica a la que pertenece un juego.
+	// @param gameIndex Índice del juego.
+	public int replicateOf(int gameIndex) {
+		return gameIndex % replicates;
+	}
+
+	// Crea la fuente de números aleatorios de un juego.
+	// @param gameIndex Índice del juego.
+	// @return Fuente independiente del resto de juegos.
+	public RandomSource sourceFor(int gameIndex) {
+		RandomSource pseudo = new PseudoRandomSource(PseudoRandomSource.deriveSeed(seed, gameIndex));
+		if (sequences == null) {
+			return pseudo;
+		}
+		return new QuasiRandomSource(sequences[replicateOf(gameIndex)], gameIndex / replicates, pseudo);
+	}
+}
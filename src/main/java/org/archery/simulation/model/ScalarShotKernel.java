@@ -0,0 +1,24 @@
+package org.archery.simulation.model;
+
+// Implementación escalar de ShotKernel: se usa cuando la API vectorial no está disponible
+// y como referencia en las pruebas de rendimiento.
+public class ScalarShotKernel implements ShotKernel {
+
+	@Override
+	public void shoot(long seed, double[] central, double[] intermediate, double[] outside,
+			int[] launches, int lanes, int[] scores) {
+		for (int lane = 0; lane < lanes; lane++) {
+			int score = 0;
+			for (int launch = 0; launch < launches[lane]; launch++) {
+				score += ShotKernel.score(ShotKernel.uniform(seed, lane, launch),
+						central[lane], intermediate[lane], outside[lane]);
+			}
+			scores[lane] = score;
+		}
+	}
+
+	@Override
+	public String getDescription() {
+		return "Escalar";
+	}
+}
@@ -0,0 +1,156 @@
+package org.archery.simulation.model;
+
+import java.util.Arrays;
+
+// Distribución de probabilidad exacta de una puntuación entera no negativa (la posición del
+// array es la puntuación). Es inmutable: las operaciones devuelven distribuciones nuevas.
+public class ScoreDistribution {
+
+	private final double[] probabilities; // Probabilidad de cada puntuación
+
+	// @param probabilities Probabilidad de cada puntuación desde 0; se copia.
+	public ScoreDistribution(double[] probabilities) {
+		this.probabilities = probabilities.clone();
+	}
+
+	// Distribución que vale siempre la misma puntuación.
+	public static ScoreDistribution point(int score) {
+		double[] probabilities = new double[score + 1];
+		probabilities[score] = 1;
+		return new ScoreDistribution(probabilities);
+	}
+
+	// Distribución de la suma de dos puntuaciones independientes.
+	public ScoreDistribution convolve(ScoreDistribution other) {
+		double[] result = new double[probabilities.length + other.probabilities.length - 1];
+		for (int i = 0; i < probabilities.length; i++) {
+			if (probabilities[i] != 0) {
+				for (int j = 0; j < other.probabilities.length; j++) {
+					result[i + j] += probabilities[i] * other.probabilities[j];
+				}
+			}
+		}
+		return new ScoreDistribution(result);
+	}
+
+	// Distribución de la suma de n puntuaciones independientes con esta distribución.
+	public ScoreDistribution power(int n) {
+		ScoreDistribution result = point(0);
+		ScoreDistribution square = this;
+		for (int remaining = n; remaining > 0; remaining >>= 1) { // Exponenciación binaria
+			if ((remaining & 1) != 0) {
+				result = result.convolve(square);
+			}
+			if (remaining > 1) {
+				square = square.convolve(square);
+			}
+		}
+		return result;
+	}
+
+	// Mezcla de distribuciones con los pesos indicados (deben sumar 1).
+	public static ScoreDistribution mixture(double[] weights, ScoreDistribution[] components) {
+		int length = 0;
+		for (ScoreDistribution component : components) {
+			length = Math.max(length, component.probabilities.length);
+		}
+		double[] result = new double[length];
+		for (int c = 0; c < components.length; c++) {
+			double[] component = components[c].probabilities;
+			for (int i = 0; i < component.length; i++) {
+				result[i] += weights[c] * component[i];
+			}
+		}
+		return new ScoreDistribution(result);
+	}
+
+	// Obtiene la probabilidad de una puntuación.
+	public double probability(int score) {
+		return score >= 0 && score < probabilities.length ? probabilities[score] : 0;
+	}
+
+	// Obtiene la puntuación máxima con probabilidad positiva.
+	public int getMax() {
+		int max = probabilities.length - 1;
+		while (max > 0 && probabilities[max] == 0) {
+			max--;
+		}
+		return max;
+	}
+
+	// Obtiene la puntuación mínima con probabilidad positiva.
+	public int getMin() {
+		int min = 0;
+		while (min < probabilities.length - 1 && probabilities[min] == 0) {
+			min++;
+		}
+		return min;
+	}
+
+	// Obtiene la suma de las probabilidades (1 salvo errores de redondeo).
+	public double getTotal() {
+		return Arrays.stream(probabilities).sum();
+	}
+
+	// Obtiene la media de la puntuación.
+	public double getMean() {
+		double mean = 0;
+		for (int i = 0; i < probabilities.length; i++) {
+			mean += i * probabilities[i];
+		}
+		return mean;
+	}
+
+	// Obtiene la desviación típica de la puntuación.
+	public double getStandardDeviation() {
+		double mean = getMean();
+		double variance = 0;
+		for (int i = 0; i < probabilities.length; i++) {
+			variance += (i - mean) * (i - mean) * probabilities[i];
+		}
+		return Math.sqrt(variance);
+	}
+
+	// Obtiene el cuantil: la menor puntuación cuya probabilidad acumulada alcanza quantile.
+	// @param quantile Cuantil en el rango [0, 1].
+	public int getValueAtQuantile(double quantile) {
+		double cumulative = 0;
+		for (int i = 0; i < probabilities.length; i++) {
+			cumulative += probabilities[i];
+			if (cumulative >= quantile - 1e-12) { // Tolera el redondeo de la suma
+				return i;
+			}
+		}
+		return getMax();
+	}
+
+	// Calcula la distancia de variación total entre esta distribución y las frecuencias de un
+	// histograma, agrupando las probabilidades exactas en las cubetas del histograma.
+	public double totalVariationDistance(StreamingHistogram histogram) {
+		long total = histogram.getTotalCount();
+		double distance = 0;
+		double covered = 0;
+		for (int bucket = 0; bucket < histogram.getBucketCount(); bucket++) {
+			long lower = StreamingHistogram.bucketLowerBound(bucket);
+			if (lower >= probabilities.length && histogram.getCount(bucket) == 0) {
+				continue;
+			}
+			double exact = 0;
+			long upper = Math.min(lower + StreamingHistogram.bucketWidth(bucket), probabilities.length);
+			for (long score = lower; score < upper; score++) {
+				exact += probabilities[(int) score];
+			}
+			covered += exact;
+			distance += Math.abs(exact - (double) histogram.getCount(bucket) / total);
+		}
+		return (distance + Math.max(0, getTotal() - covered)) / 2;
+	}
+
+	// Genera un resumen con la media, la desviación típica y los percentiles p50, p95 y p99.
+	// @param name Nombre de la métrica.
+	public String summary(String name) {
+		return String.format("%s : media=%.2f sd=%.2f min=%d p50=%d p95=%d p99=%d max=%d%n",
+				name, getMean(), getStandardDeviation(), getMin(), getValueAtQuantile(0.50),
+				getValueAtQuantile(0.95), getValueAtQuantile(0.99), getMax());
+	}
+}
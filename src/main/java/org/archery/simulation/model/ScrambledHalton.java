@@ -0,0 +1,105 @@
+package org.archery.simulation.model;
+
+import java.util.SplittableRandom;
+
+// Secuencia de Halton aleatorizada (cuasi-Monte Carlo aleatorizado).
+// Cada dimensión usa un número primo como base, una permutación aleatoria de los dígitos
+// (con el 0 fijo) y un desplazamiento aleatorio de Cranley-Patterson. A partir de la dimensión
+// FULL_PERMUTATIONS la permutación es multiplicativa (d -> a·d mod base) para no guardar una
+// tabla por dimensión cuando las bases son grandes. Cada réplica tiene su
+// propia aleatorización, lo que hace que las estimaciones de cada réplica sean independientes
+// e insesgadas y permite calcular un error estándar entre réplicas.
+public class ScrambledHalton {
+
+	static final int FULL_PERMUTATIONS = 64; // Dimensiones con permutación completa de dígitos
+
+	private final int[] bases; // Base (número primo) de cada dimensión
+	private final int[][] permutations; // Permutación de dígitos de cada dimensión (null si es multiplicativa)
+	private final int[] multipliers; // Multiplicador de las dimensiones con permutación multiplicativa
+	private final double[] shifts; // Desplazamiento aleatorio de cada dimensión
+
+	// Crea una aleatorización de la secuencia.
+	// @param dimensions Número de dimensiones cubiertas por la secuencia.
+	// @param seed Semilla de la aleatorización (una por réplica).
+	public ScrambledHalton(int dimensions, long seed) {
+		if (dimensions <= 0) {
+			throw new IllegalArgumentException("El número de dimensiones debe ser positivo");
+		}
+		SplittableRandom random = new SplittableRandom(seed);
+		this.bases = firstPrimes(dimensions);
+		this.permutations = new int[dimensions][];
+		this.multipliers = new int[dimensions];
+		this.shifts = new double[dimensions];
+		for (int d = 0; d < dimensions; d++) {
+			if (d < FULL_PERMUTATIONS) {
+				permutations[d] = randomPermutation(bases[d], random);
+			} else {
+				multipliers[d] = 1 + random.nextInt(bases[d] - 1); // Primo: a·d recorre todos los dígitos
+			}
+			shifts[d] = random.nextDouble();
+		}
+	}
+
+	// Obtiene el número de dimensiones cubiertas.
+	public int getDimensions() {
+		return bases.length;
+	}
+
+	// Calcula la coordenada de un punto de la secuencia en una dimensión.
+	// @param index Índice del punto (uno por juego).
+	// @param dimension Dimensión solicitada (una por posición de sorteo dentro del juego).
+	// @return Coordenada en el rango [0, 1).
+	public double coordinate(long index, int dimension) {
+		int base = bases[dimension];
+		int[] permutation = permutations[dimension];
+		long multiplier = multipliers[dimension];
+		double inverseBase = 1.0 / base;
+		double factor = inverseBase;
+		double value = 0;
+		long n = index;
+		while (n > 0) {
+			int digit = (int) (n % base);
+			int scrambled = permutation != null ? permutation[digit] : (int) (multiplier * digit % base);
+			value += scrambled * factor; // Inverso radical con dígitos permutados
+			n /= base;
+			factor *= inverseBase;
+		}
+		value += shifts[dimension];
+		return value >= 1 ? value - 1 : value; // Desplazamiento módulo 1
+	}
+
+	// Genera una permutación aleatoria de los dígitos [0, base) que deja el 0 en su sitio,
+	// para que los ceros implícitos de la expansión no alteren el valor.
+	private static int[] randomPermutation(int base, SplittableRandom random) {
+		int[] permutation = new int[base];
+		for (int i = 0; i < base; i++) {
+			permutation[i] = i;
+		}
+		for (int i = base - 1; i > 1; i--) {
+			int j = 1 + random.nextInt(i); // Fisher-Yates sobre las posiciones 1..base-1
+			int tmp = permutation[i];
+			permutation[i] = permutation[j];
+			permutation[j] = tmp;
+		}
+		return permutation;
+	}
+
+	// Obtiene los primeros números primos.
+	private static int[] firstPrimes(int count) {
+		int[] primes = new int[count];
+		int found = 0;
+		for (int candidate = 2; found < count; candidate++) {
+			boolean prime = true;
+			for (int i = 0; i < found && primes[i] * primes[i] <= candidate; i++) {
+				if (candidate % primes[i] == 0) {
+					prime = false;
+					break;
+				}
+			}
+			if (prime) {
+				primes[found++] = candidate;
+			}
+		}
+		return primes;
+	}
+}
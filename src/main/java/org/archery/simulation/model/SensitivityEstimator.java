@@ -0,0 +1,232 @@
+package org.archery.simulation.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+import lombok.Getter;
+
+// Estima en una sola simulación cómo responden las métricas de cada partido a las precisiones de
+// Gender, con el método de la razón de verosimilitud (función score): dE[Y]/dp = E[Y · S], donde
+// S es la suma, sobre todos los lanzamientos del partido, de la derivada del logaritmo de la
+// probabilidad del impacto obtenido. ERROR actúa como residuo: aumentar la precisión de un impacto
+// la resta de la probabilidad de fallo, así que un impacto k suma 1/p_k a su parámetro y un fallo
+// resta 1/p_ERROR a los tres parámetros de su género.
+//
+// Se usa la covarianza entre Y y S (el valor esperado de S es cero) para reducir la varianza, y el
+// error estándar se calcula entre réplicas, igual que en ConvergenceEstimator. Recibe los
+// lanzamientos como observador del bloque de juegos al que pertenece (confinado al hilo).
+public class SensitivityEstimator implements SimulationListener {
+
+	// Métricas de cada partido cuya sensibilidad se estima.
+	@Getter
+	public enum Metric {
+		FEMALE_WIN_RATE("Tasa de victorias femeninas"),
+		MEAN_TEAM_SCORE("Puntuación media por equipo"),
+		FEMALE_ROUNDS_WON("Rondas ganadas por mujeres");
+
+		private final String label; // Nombre legible de la métrica
+
+		private Metric(String label) {
+			this.label = label;
+		}
+	}
+
+	// Precisiones de Gender respecto a las que se deriva.
+	@Getter
+	public enum Parameter {
+		MALE_CENTRAL(0, Shot.CENTRAL),
+		MALE_INTERMEDIATE(0, Shot.INTERMEDIATE),
+		MALE_OUTSIDE(0, Shot.OUTSIDE),
+		FEMALE_CENTRAL(1, Shot.CENTRAL),
+		FEMALE_INTERMEDIATE(1, Shot.INTERMEDIATE),
+		FEMALE_OUTSIDE(1, Shot.OUTSIDE);
+
+		private final int gender; // Valor de género de Gender (0 hombre, 1 mujer)
+		private final Shot shot; // Impacto cuya precisión es el parámetro
+
+		private Parameter(int gender, Shot shot) {
+			this.gender = gender;
+			this.shot = shot;
+		}
+
+		// Valor actual del parámetro en Gender.
+		public double getValue() {
+			return new Gender(gender).getPrecisionMap().get(shot);
+		}
+
+		// Nombre legible del parámetro.
+		public String getLabel() {
+			return new Gender(gender).getName() + " " + shot.name();
+		}
+	}
+
+	private static final int METRICS = Metric.values().length;
+	private static final int PARAMETERS = Parameter.values().length;
+	private static final int SHOTS_PER_GENDER = PARAMETERS / 2;
+
+	private final long[] counts; // Partidos registrados por réplica
+	private final double[][] metricSums; // Suma de cada métrica por réplica
+	private final double[][] scoreSums; // Suma de cada componente de S por réplica
+	private final double[][] productSums; // Suma de Y · S por réplica (métrica * PARAMETERS + parámetro)
+	private final double[][] inverseProbabilities; // 1/p de cada impacto por género (índice del enum Shot)
+	private final double[] score; // S del partido en curso
+	private final double[] metrics; // Métricas del partido que se está registrando
+
+	// @param replicates Número de réplicas.
+	public SensitivityEstimator(int replicates) {
+		this.counts = new long[replicates];
+		this.metricSums = new double[replicates][METRICS];
+		this.scoreSums = new double[replicates][PARAMETERS];
+		this.productSums = new double[replicates][METRICS * PARAMETERS];
+		this.score = new double[PARAMETERS];
+		this.metrics = new double[METRICS];
+		this.inverseProbabilities = new double[2][];
+		for (int gender = 0; gender < 2; gender++) {
+			Map<Shot, Double> precision = new Gender(gender).getPrecisionMap();
+			inverseProbabilities[gender] = new double[Shot.values().length];
+			for (Shot shot : Shot.values()) {
+				inverseProbabilities[gender][shot.ordinal()] = 1 / precision.get(shot);
+			}
+		}
+	}
+
+	@Override
+	public void onGameStart(int gameIndex) {
+		Arrays.fill(score, 0);
+	}
+
+	@Override
+	public void onShot(Archer archer, Shot shot, ShotKind kind) {
+		int gender = "Hombre".equals(archer.getGender().getName()) ? 0 : 1;
+		double[] inverse = inverseProbabilities[gender];
+		int first = gender * SHOTS_PER_GENDER;
+		if (shot == Shot.ERROR) {
+			for (int k = 0; k < SHOTS_PER_GENDER; k++) {
+				score[first + k] -= inverse[Shot.ERROR.ordinal()];
+			}
+		} else {
+			score[first + shot.ordinal()] += inverse[shot.ordinal()];
+		}
+	}
+
+	// Registra un partido terminado con la S acumulada desde onGameStart().
+	// @param replicate Réplica a la que pertenece el partido.
+	// @param match Partido terminado.
+	public void record(int replicate, Match match) {
+		Arrays.fill(metrics, 0);
+		metrics[Metric.FEMALE_WIN_RATE.ordinal()] = "Mujer".equals(match.getWinnerGender().getName()) ? 1 : 0;
+		metrics[Metric.MEAN_TEAM_SCORE.ordinal()] = (match.obtainTeamScore(0) + match.obtainTeamScore(1)) / 2.0;
+		for (Archer archer : match.obtainAllArchers()) {
+			if ("Mujer".equals(archer.getGender().getName())) {
+				metrics[Metric.FEMALE_ROUNDS_WON.ordinal()] += archer.getRoundsWon();
+			}
+		}
+		counts[replicate]++;
+		for (int p = 0; p < PARAMETERS; p++) {
+			scoreSums[replicate][p] += score[p];
+		}
+		for (int m = 0; m < METRICS; m++) {
+			metricSums[replicate][m] += metrics[m];
+			for (int p = 0; p < PARAMETERS; p++) {
+				productSums[replicate][m * PARAMETERS + p] += metrics[m] * score[p];
+			}
+		}
+	}
+
+	// Combina los acumulados de otro estimador con el mismo número de réplicas.
+	public void merge(SensitivityEstimator other) {
+		for (int r = 0; r < counts.length; r++) {
+			counts[r] += other.counts[r];
+			add(metricSums[r], other.metricSums[r]);
+			add(scoreSums[r], other.scoreSums[r]);
+			add(productSums[r], other.productSums[r]);
+		}
+	}
+
+	// Estima la derivada de una métrica respecto a un parámetro como la media de las covarianzas
+	// de cada réplica, con su error estándar.
+	// @return Estimación; el error es NaN si hay menos de dos réplicas con datos.
+	public Estimate gradient(Metric metric, Parameter parameter) {
+		int used = 0;
+		double total = 0;
+		double totalSquares = 0;
+		for (int r = 0; r < counts.length; r++) {
+			if (counts[r] > 0) {
+				double n = counts[r];
+				double covariance = productSums[r][metric.ordinal() * PARAMETERS + parameter.ordinal()] / n
+						- metricSums[r][metric.ordinal()] / n * (scoreSums[r][parameter.ordinal()] / n);
+				total += covariance;
+				totalSquares += covariance * covariance;
+				used++;
+			}
+		}
+		if (used == 0) {
+			return new Estimate(Double.NaN, Double.NaN);
+		}
+		double mean = total / used;
+		if (used < 2) {
+			return new Estimate(mean, Double.NaN);
+		}
+		double variance = Math.max(0, (totalSquares - used * mean * mean) / (used - 1));
+		return new Estimate(mean, Math.sqrt(variance / used));
+	}
+
+	// Genera un informe con la derivada de cada métrica respecto a cada precisión.
+	public String report() {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("Sensibilidad a la precisión (razón de verosimilitud, %d réplicas, ERROR como residuo)%n",
+				counts.length));
+		for (Metric metric : Metric.values()) {
+			report.append(metric.getLabel()).append(System.lineSeparator());
+			for (Parameter parameter : Parameter.values()) {
+				report.append(String.format("  d/d %s (%.2f) : %s%n", parameter.getLabel(), parameter.getValue(),
+						gradient(metric, parameter)));
+			}
+		}
+		return report.toString();
+	}
+
+	// Escribe los acumulados en formato binario.
+	void writeTo(DataOutput out) throws IOException {
+		out.writeInt(counts.length);
+		for (int r = 0; r < counts.length; r++) {
+			out.writeLong(counts[r]);
+			write(out, metricSums[r]);
+			write(out, scoreSums[r]);
+			write(out, productSums[r]);
+		}
+	}
+
+	// Lee los acumulados escritos con writeTo().
+	static SensitivityEstimator readFrom(DataInput in) throws IOException {
+		SensitivityEstimator estimator = new SensitivityEstimator(in.readInt());
+		for (int r = 0; r < estimator.counts.length; r++) {
+			estimator.counts[r] = in.readLong();
+			read(in, estimator.metricSums[r]);
+			read(in, estimator.scoreSums[r]);
+			read(in, estimator.productSums[r]);
+		}
+		return estimator;
+	}
+
+	private static void add(double[] target, double[] values) {
+		for (int i = 0; i < target.length; i++) {
+			target[i] += values[i];
+		}
+	}
+
+	private static void write(DataOutput out, double[] values) throws IOException {
+		for (double value : values) {
+			out.writeDouble(value);
+		}
+	}
+
+	private static void read(DataInput in, double[] values) throws IOException {
+		for (int i = 0; i < values.length; i++) {
+			values[i] = in.readDouble();
+		}
+	}
+}
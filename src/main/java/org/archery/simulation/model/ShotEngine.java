@@ -0,0 +1,23 @@
+package org.archery.simulation.model;
+
+import lombok.Getter;
+
+// Forma en la que se sortean las flechas normales de cada ronda.
+@Getter
+public enum ShotEngine {
+
+	// Cada arquero sortea sus flechas una a una con la fuente aleatoria del juego.
+	PER_ARCHER("Arquero a arquero"),
+
+	// Las flechas de los diez arqueros de un partido se sortean a la vez con un ShotKernel,
+	// vectorial si el módulo jdk.incubator.vector está disponible. No notifica cada flecha,
+	// por lo que no admite observadores.
+	BATCHED("Por lotes");
+
+	// Nombre legible del motor.
+	private final String label;
+
+	private ShotEngine(String label) {
+		this.label = label;
+	}
+}
@@ -0,0 +1,44 @@
+package org.archery.simulation.model;
+
+// Núcleo que sortea y puntúa las flechas normales de una ronda para varios arqueros a la vez.
+// Cada carril corresponde a un arquero. Los uniformes salen de un generador basado en contador:
+// el uniforme de la flecha k del carril i solo depende de la semilla, de i y de k, de modo que
+// todas las implementaciones producen exactamente las mismas puntuaciones.
+public interface ShotKernel {
+
+	int MAX_LAUNCHES = 64; // Flechas por carril y ronda que admite el contador
+	long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L; // Incremento del contador (SplitMix64)
+	double UNIT = 0x1.0p-53; // Convierte 53 bits aleatorios en un uniforme de [0, 1)
+
+	// Sortea las flechas de cada carril y acumula su puntuación.
+	// @param seed Semilla de la ronda.
+	// @param central Umbral acumulado de impacto central de cada carril.
+	// @param intermediate Umbral acumulado de impacto intermedio de cada carril.
+	// @param outside Umbral acumulado de impacto exterior de cada carril.
+	// @param launches Número de flechas de cada carril (como máximo MAX_LAUNCHES).
+	// @param lanes Número de carriles usados.
+	// @param scores Salida: puntuación total de cada carril.
+	void shoot(long seed, double[] central, double[] intermediate, double[] outside,
+			int[] launches, int lanes, int[] scores);
+
+	// Obtiene una descripción legible del núcleo.
+	String getDescription();
+
+	// Uniforme de la flecha launch del carril lane.
+	static double uniform(long seed, int lane, int launch) {
+		long counter = (long) lane * MAX_LAUNCHES + launch + 1;
+		return (PseudoRandomSource.mix(seed + counter * GOLDEN_GAMMA) >>> 11) * UNIT;
+	}
+
+	// Puntuación de un impacto según los umbrales acumulados, como en Archer.
+	static int score(double uniform, double central, double intermediate, double outside) {
+		if (uniform <= central) {
+			return Shot.CENTRAL.getScore();
+		} else if (uniform <= intermediate) {
+			return Shot.INTERMEDIATE.getScore();
+		} else if (uniform <= outside) {
+			return Shot.OUTSIDE.getScore();
+		}
+		return Shot.ERROR.getScore();
+	}
+}
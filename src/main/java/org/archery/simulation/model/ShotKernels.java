@@ -0,0 +1,41 @@
+package org.archery.simulation.model;
+
+// Selección del núcleo de disparos: el vectorial si el módulo jdk.incubator.vector está cargado
+// (java --add-modules jdk.incubator.vector) y el escalar en caso contrario. El núcleo vectorial
+// se carga por reflexión para que sus clases no se enlacen cuando el módulo no existe.
+public final class ShotKernels {
+
+	private static final String VECTOR_MODULE = "jdk.incubator.vector";
+	private static final ShotKernel SCALAR = new ScalarShotKernel();
+	private static final ShotKernel PREFERRED = loadPreferred();
+
+	private ShotKernels() {
+	}
+
+	// Obtiene el núcleo más rápido disponible.
+	public static ShotKernel preferred() {
+		return PREFERRED;
+	}
+
+	// Obtiene el núcleo escalar.
+	public static ShotKernel scalar() {
+		return SCALAR;
+	}
+
+	// Indica si la API vectorial está disponible en esta máquina virtual.
+	public static boolean isVectorAvailable() {
+		return PREFERRED != SCALAR;
+	}
+
+	private static ShotKernel loadPreferred() {
+		if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+			return SCALAR;
+		}
+		try {
+			return (ShotKernel) Class.forName("org.archery.simulation.model.VectorShotKernel")
+					.getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError e) {
+			return SCALAR; // Módulo presente pero no utilizable: se mantiene el camino escalar
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package org.archery.simulation.model;
+
+// Origen de un lanzamiento dentro de un partido.
+public enum ShotKind {
+
+	// Flecha normal de la ronda, lanzada mientras el arquero tiene resistencia.
+	ARROW,
+
+	// Disparo aleatorio concedido al arquero con más suerte de cada equipo.
+	RANDOM,
+
+	// Lanzamiento extra por tres disparos aleatorios ganados de forma consecutiva.
+	EXTRA,
+
+	// Lanzamiento de desempate entre los mejores arqueros de la ronda.
+	TIEBREAK
+}
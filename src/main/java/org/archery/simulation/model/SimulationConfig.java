@@ -0,0 +1,78 @@
+package org.archery.simulation.model;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// Configuración de una simulación: número de juegos, semilla, modo de muestreo e hilos.
+// Con la misma configuración la simulación produce siempre los mismos resultados.
+@Getter
+@Setter
+public class SimulationConfig {
+
+	public static final int DEFAULT_REPLICATES = 8; // Réplicas usadas para estimar el error
+	public static final int DEFAULT_QMC_DIMENSIONS = DrawSlot.DIMENSIONS; // Dimensiones cubiertas por la secuencia cuasi-aleatoria
+	public static final int QMC_SETUP_DIMENSIONS = DrawSlot.SETUP_DIMENSIONS; // Dimensiones que solo cubren la preparación de los arqueros
+	public static final int DEFAULT_LEADERBOARD_SIZE = 10; // Entradas de cada clasificación
+	public static final double DEFAULT_IMPORTANCE_TILT = 1.0; // Intensidad de la inclinación de los sorteos
+
+	private int numberOfGames; // Número de juegos a simular
+	private long seed; // Semilla de la simulación
+	private SamplingMode samplingMode; // Modo de muestreo de los sorteos
+	private int replicates; // Número de réplicas independientes para las estimaciones de error
+	private int qmcDimensions; // Dimensiones cubiertas por la secuencia de Halton
+	private int threads; // Hilos usados para simular los juegos en paralelo
+	private boolean retainMatches; // Guarda el registro compacto de partidos (MatchLog) para los informes por partido
+	private SimulationListener.Factory listenerFactory; // Observadores de los sorteos de cada bloque de juegos
+	private ShotEngine shotEngine; // Forma de sortear las flechas normales de cada ronda
+	private boolean sensitivity; // Estima la sensibilidad de las métricas a las precisiones de Gender
+	private int leaderboardSize; // Entradas de cada clasificación (arqueros con más suerte, etc.)
+	private RareEvent rareEvent; // Suceso raro hacia el que se inclinan los sorteos, o null sin muestreo por importancia
+	private double importanceTilt; // Intensidad de la inclinación (0 = sorteos nominales)
+	private RuleParameters rules; // Precisiones por género y resistencia inicial de los arqueros
+
+	// Crea una configuración con una semilla basada en el tiempo actual y muestreo pseudoaleatorio.
+	// @param numberOfGames Número de juegos a simular.
+	public SimulationConfig(int numberOfGames) {
+		this(numberOfGames, System.nanoTime());
+	}
+
+	// Crea una configuración con muestreo pseudoaleatorio.
+	// @param numberOfGames Número de juegos a simular.
+	// @param seed Semilla de la simulación.
+	public SimulationConfig(int numberOfGames, long seed) {
+		if (numberOfGames < 0) {
+			throw new IllegalArgumentException("El número de juegos no puede ser negativo");
+		}
+		this.numberOfGames = numberOfGames;
+		this.seed = seed;
+		this.samplingMode = SamplingMode.PSEUDO_RANDOM;
+		this.replicates = DEFAULT_REPLICATES;
+		this.qmcDimensions = DEFAULT_QMC_DIMENSIONS;
+		this.threads = 1;
+		this.retainMatches = true;
+		this.listenerFactory = SimulationListener.Factory.NONE;
+		this.shotEngine = ShotEngine.PER_ARCHER;
+		this.leaderboardSize = DEFAULT_LEADERBOARD_SIZE;
+		this.importanceTilt = DEFAULT_IMPORTANCE_TILT;
+		this.rules = RuleParameters.NOMINAL;
+	}
+
+	// Crea una copia de la configuración con otro número de juegos.
+	// @param numberOfGames Número de juegos de la copia.
+	public SimulationConfig withNumberOfGames(int numberOfGames) {
+		SimulationConfig copy = new SimulationConfig(numberOfGames, seed);
+		copy.samplingMode = samplingMode;
+		copy.replicates = replicates;
+		copy.qmcDimensions = qmcDimensions;
+		copy.threads = threads;
+		copy.retainMatches = retainMatches;
+		copy.listenerFactory = listenerFactory;
+		copy.shotEngine = shotEngine;
+		copy.sensitivity = sensitivity;
+		copy.leaderboardSize = leaderboardSize;
+		copy.rareEvent = rareEvent;
+		copy.importanceTilt = importanceTilt;
+		copy.rules = rules;
+		return copy;
+	}
+}
@@ -0,0 +1,168 @@
+package org.archery.simulation.model;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Simulación preparada pero no iniciada, que se obtiene con Game.prepare(). Separa la construcción
+// de la ejecución: permite registrar observadores de progreso (juegos terminados, velocidad y tiempo
+// restante), iniciar la simulación en segundo plano o en el hilo actual, y pausarla, reanudarla o
+// cancelarla entre juegos, tanto con un hilo como con varios.
+public class SimulationHandle {
+
+	// Recibe el estado de la simulación periódicamente y una última vez al terminar.
+	@FunctionalInterface
+	public interface ProgressListener {
+		void onProgress(ProgressSnapshot snapshot);
+	}
+
+	public static final long DEFAULT_PROGRESS_INTERVAL_MILLIS = 1000; // Periodo de los avisos de progreso
+
+	private final SimulationConfig config; // Configuración de la simulación
+	private final ProgressTracker progress; // Progreso, pausa y cancelación
+	private final CompletableFuture<SimulationResult> result; // Resultado cuando termina
+	private final List<ProgressListener> listeners; // Observadores de progreso
+	private final AtomicBoolean started; // Indica si ya se ha iniciado
+	private volatile long progressIntervalMillis; // Periodo de los avisos de progreso
+
+	// @param config Configuración de la simulación.
+	SimulationHandle(SimulationConfig config) {
+		this.config = config;
+		this.progress = new ProgressTracker();
+		this.result = new CompletableFuture<>();
+		this.listeners = new CopyOnWriteArrayList<>();
+		this.started = new AtomicBoolean();
+		this.progressIntervalMillis = DEFAULT_PROGRESS_INTERVAL_MILLIS;
+	}
+
+	// Registra un observador de progreso.
+	public SimulationHandle onProgress(ProgressListener listener) {
+		listeners.add(listener);
+		return this;
+	}
+
+	// Cambia el periodo de los avisos de progreso.
+	public SimulationHandle setProgressInterval(long millis) {
+		if (millis <= 0) {
+			throw new IllegalArgumentException("El periodo de progreso debe ser positivo");
+		}
+		this.progressIntervalMillis = millis;
+		return this;
+	}
+
+	// Inicia la simulación en un hilo propio y devuelve inmediatamente.
+	public SimulationHandle start() {
+		return start(null);
+	}
+
+	// Inicia la simulación en un hilo propio y devuelve inmediatamente.
+	// @param executor Grupo de hilos donde se reparten los juegos, o null para crear uno propio.
+	public SimulationHandle start(ExecutorService executor) {
+		markStarted();
+		Thread runner = new Thread(() -> execute(executor), "simulation");
+		runner.start();
+		return this;
+	}
+
+	// Ejecuta la simulación en el hilo actual y espera a que termine.
+	// @return Resultado de la simulación.
+	// @throws CancellationException si se cancela.
+	public SimulationResult run() {
+		markStarted();
+		execute(null);
+		return join();
+	}
+
+	// Espera a que termine la simulación.
+	// @return Resultado de la simulación.
+	// @throws CancellationException si se cancela.
+	public SimulationResult join() {
+		try {
+			return result.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	// Obtiene el resultado como futuro, para encadenar acciones al terminar.
+	public CompletableFuture<SimulationResult> getFuture() {
+		return result;
+	}
+
+	// Pide la cancelación; la simulación se detiene antes de su siguiente juego.
+	public void cancel() {
+		progress.cancel();
+	}
+
+	// Pausa la simulación antes de su siguiente juego.
+	public void pause() {
+		progress.pause();
+	}
+
+	// Reanuda la simulación en pausa.
+	public void resume() {
+		progress.resume();
+	}
+
+	// Indica si la simulación está en pausa.
+	public boolean isPaused() {
+		return progress.isPaused();
+	}
+
+	// Indica si la simulación ha terminado, con éxito, por cancelación o por un error.
+	public boolean isDone() {
+		return result.isDone();
+	}
+
+	// Obtiene el estado actual de la simulación.
+	public ProgressSnapshot getProgress() {
+		return new ProgressSnapshot(progress);
+	}
+
+	private void markStarted() {
+		if (!started.compareAndSet(false, true)) {
+			throw new IllegalStateException("La simulación ya se ha iniciado");
+		}
+	}
+
+	// Ejecuta la simulación y completa el resultado, avisando a los observadores de progreso.
+	private void execute(ExecutorService executor) {
+		ScheduledExecutorService reporter = null;
+		if (!listeners.isEmpty()) {
+			reporter = Executors.newSingleThreadScheduledExecutor(task -> {
+				Thread thread = new Thread(task, "simulation-progress");
+				thread.setDaemon(true);
+				return thread;
+			});
+			long interval = progressIntervalMillis;
+			reporter.scheduleAtFixedRate(this::report, interval, interval, TimeUnit.MILLISECONDS);
+		}
+		try {
+			result.complete(new Game(config, executor, progress).getResult());
+		} catch (RuntimeException | Error e) {
+			result.completeExceptionally(e); // Incluida la CancellationException de una cancelación
+		} finally {
+			if (reporter != null) {
+				reporter.shutdownNow();
+				report(); // Último aviso con el estado final
+			}
+		}
+	}
+
+	private void report() {
+		ProgressSnapshot snapshot = getProgress();
+		for (ProgressListener listener : listeners) {
+			listener.onProgress(snapshot);
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package org.archery.simulation.model;
+
+// Observador de los sorteos y eventos de un partido: cada lanzamiento, la fatiga y la suerte de
+// cada arquero, y el inicio y el final de cada juego. Cada bloque de juegos que simula un hilo
+// usa su propia instancia, que se cierra al terminar el bloque. Todos los métodos tienen una
+// implementación vacía, de modo que un observador solo implementa los eventos que necesita.
+public interface SimulationListener {
+
+	// Observador que ignora todos los eventos.
+	SimulationListener NONE = new SimulationListener() {
+	};
+
+	// Crea el observador de cada bloque de juegos.
+	@FunctionalInterface
+	interface Factory {
+
+		// Fábrica que no observa ningún evento.
+		Factory NONE = firstGame -> SimulationListener.NONE;
+
+		// @param firstGame Índice del primer juego del bloque.
+		SimulationListener create(int firstGame);
+	}
+
+	// Combina dos observadores: cada evento se notifica primero a first y después a second.
+	static SimulationListener compose(SimulationListener first, SimulationListener second) {
+		if (first == NONE) {
+			return second;
+		}
+		if (second == NONE) {
+			return first;
+		}
+		return new SimulationListener() {
+			@Override
+			public void onGameStart(int gameIndex) {
+				first.onGameStart(gameIndex);
+				second.onGameStart(gameIndex);
+			}
+
+			@Override
+			public void onShot(Archer archer, Shot shot, ShotKind kind) {
+				first.onShot(archer, shot, kind);
+				second.onShot(archer, shot, kind);
+			}
+
+			@Override
+			public void onFatigue(Archer archer, int fatigue) {
+				first.onFatigue(archer, fatigue);
+				second.onFatigue(archer, fatigue);
+			}
+
+			@Override
+			public void onLuck(Archer archer, double luck) {
+				first.onLuck(archer, luck);
+				second.onLuck(archer, luck);
+			}
+
+			@Override
+			public void onGameEnd(int gameIndex, Match match) {
+				first.onGameEnd(gameIndex, match);
+				second.onGameEnd(gameIndex, match);
+			}
+
+			@Override
+			public void close() {
+				try {
+					first.close();
+				} finally {
+					second.close();
+				}
+			}
+		};
+	}
+
+	// Se invoca antes de crear los arqueros del juego.
+	// @param gameIndex Índice del juego.
+	default void onGameStart(int gameIndex) {
+	}
+
+	// Se invoca con cada lanzamiento de un arquero.
+	// @param archer Arquero que lanza.
+	// @param shot Resultado del lanzamiento.
+	// @param kind Origen del lanzamiento.
+	default void onShot(Archer archer, Shot shot, ShotKind kind) {
+	}
+
+	// Se invoca con cada sorteo de fatiga al final de la ronda de un arquero.
+	default void onFatigue(Archer archer, int fatigue) {
+	}
+
+	// Se invoca con cada sorteo de suerte (al crear el arquero y al final de cada una de sus rondas).
+	default void onLuck(Archer archer, double luck) {
+	}
+
+	// Se invoca cuando el partido ha terminado y su género ganador está calculado.
+	// @param gameIndex Índice del juego.
+	// @param match Partido terminado.
+	default void onGameEnd(int gameIndex, Match match) {
+	}
+
+	// Se invoca cuando el bloque de juegos ha terminado, aunque sea por un error o una cancelación.
+	default void close() {
+	}
+}
@@ -0,0 +1,173 @@
+package org.archery.simulation.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.text.DecimalFormat;
+import java.util.List;
+
+import org.archery.simulation.report.MatchReport;
+import org.archery.simulation.report.ReportWriter;
+
+import lombok.Getter;
+
+// Resultado de una simulación: su configuración y las estadísticas agregadas.
+// Genera los informes que muestra la vista, tanto si la simulación se acaba de ejecutar
+// como si se ha recuperado de la caché de resultados.
+@Getter
+public class SimulationResult {
+
+	private final SimulationConfig config; // Configuración de la simulación
+	private final SimulationStatistics statistics; // Estadísticas agregadas
+
+	public SimulationResult(SimulationConfig config, SimulationStatistics statistics) {
+		this.config = config;
+		this.statistics = statistics;
+	}
+
+	// Obtiene el número de juegos simulados.
+	public int getNumberOfGames() {
+		return config.getNumberOfGames();
+	}
+
+	// Extiende el resultado con los juegos posteriores de la misma semilla.
+	// @param continuation Resultado de los juegos siguientes a los de este resultado.
+	// @return Resultado combinado; este resultado deja de ser válido.
+	public SimulationResult extend(SimulationResult continuation) {
+		statistics.merge(continuation.statistics);
+		return new SimulationResult(continuation.config, statistics);
+	}
+
+	// Obtiene las estadísticas de victorias por género.
+	// @return El género con más victorias.
+	public String getGenderWinStatistics() {
+		return statistics.getMaleVictories() > statistics.getFemaleVictories() ? "Hombre" : "Mujer"; // Retorna el género con más victorias
+	}
+
+	// Obtiene el equipo ganador de la simulación.
+	// @return Una cadena con el equipo ganador.
+	public String getWinningTeam() {
+		int winningTeam = statistics.getTeam1Score() > statistics.getTeam2Score() ? 1 : 2; // Determina el equipo ganador
+		return String.format("Equipo %d", winningTeam); // Formatea y retorna la información del equipo ganador
+	}
+
+	// Obtiene los puntos del equipo ganador.
+	public String getPoints() {
+		long winningPoints = Math.max(statistics.getTeam1Score(), statistics.getTeam2Score()); // Obtiene los puntos del equipo ganador
+		return new DecimalFormat("#,###,###,##0").format(winningPoints); // Formatea los puntos con separadores de miles
+	}
+
+	// Obtiene la clasificación de los arqueros con más suerte de cada partido.
+	// @return Una cadena con las K mejores entradas de la clasificación.
+	public String getLuckyArchers() {
+		return statistics.getLuckiestArchers().report(record -> String.format(
+				"Partido %d : Arquero %d Total de lanzamientos ganados : %d",
+				record.getGameIndex() + 1, record.getArcherId(), record.getValue()));
+	}
+
+	// Obtiene la clasificación de los arqueros con más experiencia de cada partido.
+	// @return Una cadena con las K mejores entradas de la clasificación.
+	public String getExperiencedArchers() {
+		return statistics.getMostExperiencedArchers().report(record -> String.format(
+				"Partido %d : Arquero %d Experiencia total adquirida : %d",
+				record.getGameIndex() + 1, record.getArcherId(), record.getValue()));
+	}
+
+	// Obtiene la clasificación de los partidos con más puntos.
+	// @return Una cadena con las K mejores entradas de la clasificación.
+	public String getTopMatches() {
+		return statistics.getTopMatches().report(record -> String.format(
+				"Partido %d : %d puntos (Equipo 1 = %d, Equipo 2 = %d)",
+				record.getGameIndex() + 1, record.getTotalScore(), record.getTeam1Score(), record.getTeam2Score()));
+	}
+
+	// Obtiene el género ganador por partido.
+	// @return Una cadena con el género ganador de cada partido.
+	public String getGendersByMatch() {
+		StringBuilder gendersByMatch = new StringBuilder(); // StringBuilder para acumular resultados
+		try {
+			writeMatchReport(MatchReport.GENDERS, gendersByMatch);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e); // Un StringBuilder no lanza excepciones de E/S
+		}
+		return gendersByMatch.toString(); // Retorna la información de los géneros ganadores
+	}
+
+	// Escribe un informe por partido en el destino dado, por bloques y sin acumularlo en memoria.
+	// @param report Informe a escribir.
+	// @param out Destino del informe (un Writer, un StringBuilder...).
+	public void writeMatchReport(MatchReport report, Appendable out) throws IOException {
+		report.write(out, statistics.getMatchLog());
+	}
+
+	// Obtiene el número de partidos con datos para los informes por partido.
+	public int getMatchReportSize() {
+		MatchLog log = statistics.getMatchLog();
+		return log == null ? 0 : log.size();
+	}
+
+	// Obtiene la línea de un partido de un informe por partido.
+	// @param report Informe al que pertenece la línea.
+	// @param match Índice del partido.
+	public String getMatchReportLine(MatchReport report, int match) {
+		StringBuilder line = new StringBuilder();
+		try {
+			ReportWriter writer = new ReportWriter(line, 128);
+			report.writeLine(writer, statistics.getMatchLog(), match);
+			writer.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return line.toString();
+	}
+
+	// Obtiene las estimaciones de las métricas agregadas con su error estándar entre réplicas.
+	public String getConvergenceReport() {
+		return statistics.getConvergenceEstimator().report(config.getSamplingMode());
+	}
+
+	// Obtiene la estimación de una métrica agregada.
+	public Estimate estimate(ConvergenceEstimator.Metric metric) {
+		return statistics.getConvergenceEstimator().estimate(metric);
+	}
+
+	// Obtiene el informe de sensibilidad a las precisiones, o una cadena vacía si no se estimó.
+	public String getSensitivityReport() {
+		SensitivityEstimator sensitivity = statistics.getSensitivity();
+		return sensitivity == null ? "" : sensitivity.report();
+	}
+
+	// Obtiene el informe de sucesos raros del muestreo por importancia, o una cadena vacía si no se usó.
+	public String getRareEventReport() {
+		ImportanceSampler sampler = statistics.getImportanceSampler();
+		return sampler == null ? "" : sampler.report();
+	}
+
+	// Obtiene los histogramas de puntuaciones, suerte y experiencia.
+	public List<StreamingHistogram> getHistograms() {
+		return statistics.getHistograms();
+	}
+
+	// Obtiene un resumen con la media y los percentiles p50/p95/p99 de cada histograma.
+	public String getDistributionReport() {
+		StringBuilder report = new StringBuilder();
+		for (StreamingHistogram histogram : statistics.getHistograms()) {
+			report.append(histogram.summary());
+		}
+		return report.toString();
+	}
+
+	// Obtiene las estadísticas de carrera por arquero.
+	public CareerStore getCareerStore() {
+		return statistics.getCareerStore();
+	}
+
+	// Obtiene un informe con las estadísticas de carrera de cada arquero.
+	public String getCareerReport() {
+		return statistics.getCareerStore().report();
+	}
+
+	// Obtiene las puntuaciones de los primeros arqueros simulados, para el gráfico por partido.
+	public List<ArcherScore> getScoreSample() {
+		return statistics.getScoreSample();
+	}
+}
@@ -0,0 +1,215 @@
+package org.archery.simulation.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+
+// Estadísticas agregadas de una simulación que se actualizan dentro del bucle de simulación.
+// Cada hilo trabaja con su propia instancia (confinada al hilo) y al terminar se combinan con
+// merge() en el orden de los juegos. Salvo el registro compacto por partido (opcional), la
+// memoria usada no depende del número de juegos.
+@Getter
+public class SimulationStatistics {
+
+	private long team1Score; // Puntuación total del equipo 1
+	private long team2Score; // Puntuación total del equipo 2
+	private int maleVictories; // Partidos ganados por un arquero hombre
+	private int femaleVictories; // Partidos ganados por una arquera mujer
+	private final ConvergenceEstimator convergenceEstimator; // Estimaciones por réplica
+	private final StreamingHistogram teamScores; // Puntuación de cada equipo en cada partido
+	private final StreamingHistogram archerRoundScores; // Puntuación de cada arquero en cada ronda
+	private final StreamingHistogram archerLuck; // Suerte total de cada arquero al final del partido
+	private final StreamingHistogram archerExperience; // Experiencia de cada arquero al final del partido
+	private final MatchLog matchLog; // Datos por partido para los informes, o null si no se conservan
+	private final List<ArcherScore> scoreSample; // Puntuaciones de los primeros arqueros, para el gráfico
+	private final CareerStore careerStore; // Totales de carrera por identificador de arquero
+	private final SensitivityEstimator sensitivity; // Sensibilidad a las precisiones, o null si no se estima
+	private final ImportanceSampler importanceSampler; // Muestreo por importancia de sucesos raros, o null
+	private final Leaderboard<ArcherRecord> luckiestArchers; // Arqueros con más suerte de toda la simulación
+	private final Leaderboard<ArcherRecord> mostExperiencedArchers; // Arqueros con más experiencia de toda la simulación
+	private final Leaderboard<MatchRecord> topMatches; // Partidos con más puntos
+
+	public static final int SCORE_SAMPLE_SIZE = 100; // Arqueros conservados para el gráfico
+	public static final int MAX_ARCHER_ID = 10; // Los arqueros de cada juego tienen identificadores 1-10
+
+	// @param config Configuración de la simulación (registro por partido, sensibilidad, sucesos raros
+	//               y tamaño de las clasificaciones).
+	// @param replicates Número de réplicas del plan de muestreo.
+	public SimulationStatistics(SimulationConfig config, int replicates) {
+		this(new ConvergenceEstimator(replicates), config.isRetainMatches() ? new MatchLog() : null,
+				new CareerStore(MAX_ARCHER_ID), config.isSensitivity() ? new SensitivityEstimator(replicates) : null,
+				config.getRareEvent() == null ? null
+						: new ImportanceSampler(config.getRareEvent(), config.getImportanceTilt(), replicates),
+				config.getLeaderboardSize());
+	}
+
+	private SimulationStatistics(ConvergenceEstimator convergenceEstimator, MatchLog matchLog, CareerStore careerStore,
+			SensitivityEstimator sensitivity, ImportanceSampler importanceSampler, int leaderboardSize) {
+		this.convergenceEstimator = convergenceEstimator;
+		this.matchLog = matchLog;
+		this.careerStore = careerStore;
+		this.sensitivity = sensitivity;
+		this.importanceSampler = importanceSampler;
+		this.luckiestArchers = new Leaderboard<>("Arqueros con más suerte", leaderboardSize, ArcherRecord.BEST_FIRST);
+		this.mostExperiencedArchers = new Leaderboard<>("Arqueros con más experiencia", leaderboardSize, ArcherRecord.BEST_FIRST);
+		this.topMatches = new Leaderboard<>("Partidos con más puntos", leaderboardSize, MatchRecord.BEST_FIRST);
+		this.scoreSample = new ArrayList<>(SCORE_SAMPLE_SIZE);
+		this.teamScores = new StreamingHistogram("Puntuación de equipo por partido");
+		this.archerRoundScores = new StreamingHistogram("Puntuación de arquero por ronda");
+		this.archerLuck = new StreamingHistogram("Suerte total por arquero");
+		this.archerExperience = new StreamingHistogram("Experiencia por arquero");
+	}
+
+	// Registra las puntuaciones de los arqueros al terminar una ronda.
+	// @param match Partido en curso, antes de restablecer los puntos de la ronda.
+	public void recordRound(Match match) {
+		for (Team team : match.getTeams()) {
+			for (Archer archer : team.getArchers()) {
+				archerRoundScores.record(archer.getRoundScore());
+			}
+		}
+	}
+
+	// Registra un partido terminado.
+	// @param gameIndex Índice del juego.
+	// @param replicate Réplica a la que pertenece el partido.
+	// @param match Partido terminado.
+	public void recordMatch(int gameIndex, int replicate, Match match) {
+		int score1 = match.obtainTeamScore(0);
+		int score2 = match.obtainTeamScore(1);
+		topMatches.offer(new MatchRecord(gameIndex, score1, score2));
+		team1Score += score1;
+		team2Score += score2;
+		teamScores.record(score1);
+		teamScores.record(score2);
+		if ("Hombre".equals(match.getWinnerGender().getName())) {
+			maleVictories++;
+		} else {
+			femaleVictories++;
+		}
+		for (Team team : match.getTeams()) {
+			for (Archer archer : team.getArchers()) {
+				archerLuck.record(archer.getTotalLuck());
+				archerExperience.record(archer.getExperience());
+				// Todos los arqueros compiten en las clasificaciones, no solo el mejor de cada partido
+				luckiestArchers.offer(new ArcherRecord(gameIndex, archer.getArcherId(), archer.getTotalLuck()));
+				mostExperiencedArchers.offer(new ArcherRecord(gameIndex, archer.getArcherId(), archer.getExperience()));
+				careerStore.record(archer);
+				if (scoreSample.size() < SCORE_SAMPLE_SIZE) {
+					scoreSample.add(new ArcherScore(archer.getArcherId(), archer.getTotalScore()));
+				}
+			}
+		}
+		convergenceEstimator.record(replicate, match);
+		if (sensitivity != null) {
+			sensitivity.record(replicate, match);
+		}
+		if (importanceSampler != null) {
+			importanceSampler.record(replicate, match);
+		}
+		if (matchLog != null) {
+			matchLog.record(match);
+		}
+	}
+
+	// Combina las estadísticas de otro hilo con estas. Las de other deben corresponder
+	// a juegos posteriores, para que los datos por partido queden en orden.
+	public void merge(SimulationStatistics other) {
+		team1Score += other.team1Score;
+		team2Score += other.team2Score;
+		maleVictories += other.maleVictories;
+		femaleVictories += other.femaleVictories;
+		convergenceEstimator.merge(other.convergenceEstimator);
+		teamScores.merge(other.teamScores);
+		archerRoundScores.merge(other.archerRoundScores);
+		archerLuck.merge(other.archerLuck);
+		archerExperience.merge(other.archerExperience);
+		careerStore.merge(other.careerStore);
+		luckiestArchers.merge(other.luckiestArchers);
+		mostExperiencedArchers.merge(other.mostExperiencedArchers);
+		topMatches.merge(other.topMatches);
+		if (sensitivity != null && other.sensitivity != null) {
+			sensitivity.merge(other.sensitivity);
+		}
+		if (importanceSampler != null && other.importanceSampler != null) {
+			importanceSampler.merge(other.importanceSampler);
+		}
+		if (matchLog != null && other.matchLog != null) {
+			matchLog.append(other.matchLog);
+		}
+		for (ArcherScore score : other.scoreSample) {
+			if (scoreSample.size() < SCORE_SAMPLE_SIZE) {
+				scoreSample.add(score);
+			}
+		}
+	}
+
+	// Obtiene todos los histogramas en un orden estable.
+	public List<StreamingHistogram> getHistograms() {
+		return List.of(teamScores, archerRoundScores, archerLuck, archerExperience);
+	}
+
+	// Escribe las estadísticas en formato binario compacto.
+	public void writeTo(DataOutput out) throws IOException {
+		convergenceEstimator.writeTo(out);
+		out.writeBoolean(matchLog != null);
+		if (matchLog != null) {
+			matchLog.writeTo(out);
+		}
+		careerStore.writeTo(out);
+		out.writeBoolean(sensitivity != null);
+		if (sensitivity != null) {
+			sensitivity.writeTo(out);
+		}
+		out.writeBoolean(importanceSampler != null);
+		if (importanceSampler != null) {
+			importanceSampler.writeTo(out);
+		}
+		out.writeInt(topMatches.getCapacity());
+		out.writeLong(team1Score);
+		out.writeLong(team2Score);
+		out.writeInt(maleVictories);
+		out.writeInt(femaleVictories);
+		for (StreamingHistogram histogram : getHistograms()) {
+			histogram.writeTo(out);
+		}
+		out.writeByte(scoreSample.size());
+		for (ArcherScore score : scoreSample) {
+			out.writeByte(score.getArcherId());
+			out.writeShort(score.getTotalScore());
+		}
+		luckiestArchers.writeTo(out, ArcherRecord::writeTo);
+		mostExperiencedArchers.writeTo(out, ArcherRecord::writeTo);
+		topMatches.writeTo(out, MatchRecord::writeTo);
+	}
+
+	// Lee unas estadísticas escritas con writeTo().
+	public static SimulationStatistics readFrom(DataInput in) throws IOException {
+		ConvergenceEstimator estimator = ConvergenceEstimator.readFrom(in);
+		MatchLog matchLog = in.readBoolean() ? MatchLog.readFrom(in) : null;
+		CareerStore careerStore = CareerStore.readFrom(in);
+		SensitivityEstimator sensitivity = in.readBoolean() ? SensitivityEstimator.readFrom(in) : null;
+		ImportanceSampler importanceSampler = in.readBoolean() ? ImportanceSampler.readFrom(in) : null;
+		SimulationStatistics statistics = new SimulationStatistics(estimator, matchLog, careerStore, sensitivity,
+				importanceSampler, in.readInt());
+		statistics.team1Score = in.readLong();
+		statistics.team2Score = in.readLong();
+		statistics.maleVictories = in.readInt();
+		statistics.femaleVictories = in.readInt();
+		for (StreamingHistogram histogram : statistics.getHistograms()) {
+			histogram.readFrom(in);
+		}
+		int samples = in.readUnsignedByte();
+		for (int i = 0; i < samples; i++) {
+			statistics.scoreSample.add(new ArcherScore(in.readUnsignedByte(), in.readUnsignedShort()));
+		}
+		statistics.luckiestArchers.readFrom(in, ArcherRecord::readFrom);
+		statistics.mostExperiencedArchers.readFrom(in, ArcherRecord::readFrom);
+		statistics.topMatches.readFrom(in, MatchRecord::readFrom);
+		return statistics;
+	}
+}
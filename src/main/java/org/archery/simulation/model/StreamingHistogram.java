@@ -0,0 +1,160 @@
+package org.archery.simulation.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import lombok.Getter;
+
+// Histograma de memoria fija para valores enteros no negativos, al estilo HDR:
+// los valores menores que 256 se cuentan de forma exacta y, a partir de ahí, cada potencia
+// de dos se divide en 128 cubetas lineales, con un error relativo inferior al 1 %.
+// No guarda las muestras individuales. No es seguro entre hilos: cada hilo usa su propio
+// histograma y al final se combinan con merge().
+@Getter
+public class StreamingHistogram {
+
+	private static final int SUB_BUCKET_BITS = 7; // 128 cubetas lineales por potencia de dos
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int EXACT_LIMIT = SUB_BUCKETS << 1; // Valores exactos: [0, 256)
+	private static final int BUCKET_COUNT = EXACT_LIMIT + (31 - (SUB_BUCKET_BITS + 1)) * SUB_BUCKETS;
+
+	private final String name; // Nombre de la métrica registrada
+	private final long[] counts; // Frecuencia de cada cubeta
+	private long totalCount; // Número de valores registrados
+	private long sum; // Suma de los valores registrados
+	private int min; // Valor mínimo registrado
+	private int max; // Valor máximo registrado
+
+	// @param name Nombre de la métrica registrada.
+	public StreamingHistogram(String name) {
+		this.name = name;
+		this.counts = new long[BUCKET_COUNT];
+		this.min = Integer.MAX_VALUE;
+		this.max = Integer.MIN_VALUE;
+	}
+
+	// Registra un valor.
+	// @param value Valor no negativo.
+	public void record(int value) {
+		if (value < 0) {
+			throw new IllegalArgumentException("El histograma solo admite valores no negativos: " + value);
+		}
+		counts[bucketIndex(value)]++;
+		totalCount++;
+		sum += value;
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+	}
+
+	// Combina las frecuencias de otro histograma con este.
+	public void merge(StreamingHistogram other) {
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] += other.counts[i];
+		}
+		totalCount += other.totalCount;
+		sum += other.sum;
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+	}
+
+	// Obtiene la media de los valores registrados.
+	public double getMean() {
+		return totalCount == 0 ? Double.NaN : (double) sum / totalCount;
+	}
+
+	// Obtiene el valor aproximado de un cuantil.
+	// @param quantile Cuantil en el rango [0, 1].
+	// @return Valor del cuantil (punto medio de su cubeta) o NaN si el histograma está vacío.
+	public double getValueAtQuantile(double quantile) {
+		if (totalCount == 0) {
+			return Double.NaN;
+		}
+		long rank = Math.max(1, (long) Math.ceil(quantile * totalCount));
+		long cumulative = 0;
+		for (int i = 0; i < counts.length; i++) {
+			cumulative += counts[i];
+			if (cumulative >= rank) {
+				double middle = bucketLowerBound(i) + (bucketWidth(i) - 1) / 2.0;
+				return Math.max(min, Math.min(max, middle)); // Ajusta al rango observado
+			}
+		}
+		return max;
+	}
+
+	// Obtiene el número de cubetas del histograma.
+	public int getBucketCount() {
+		return counts.length;
+	}
+
+	// Obtiene la frecuencia de una cubeta.
+	public long getCount(int bucket) {
+		return counts[bucket];
+	}
+
+	// Obtiene el límite inferior (incluido) de una cubeta.
+	public static long bucketLowerBound(int bucket) {
+		if (bucket < EXACT_LIMIT) {
+			return bucket;
+		}
+		int offset = bucket - EXACT_LIMIT;
+		int shift = offset / SUB_BUCKETS + 1;
+		return (long) (SUB_BUCKETS + offset % SUB_BUCKETS) << shift;
+	}
+
+	// Obtiene la anchura de una cubeta.
+	public static long bucketWidth(int bucket) {
+		return bucket < EXACT_LIMIT ? 1 : 1L << ((bucket - EXACT_LIMIT) / SUB_BUCKETS + 1);
+	}
+
+	// Calcula la cubeta que corresponde a un valor.
+	static int bucketIndex(int value) {
+		if (value < EXACT_LIMIT) {
+			return value;
+		}
+		int shift = 31 - Integer.numberOfLeadingZeros(value) - SUB_BUCKET_BITS; // >= 1
+		return EXACT_LIMIT + (shift - 1) * SUB_BUCKETS + ((value >>> shift) - SUB_BUCKETS);
+	}
+
+	// Escribe el histograma en formato binario, guardando solo las cubetas no vacías.
+	void writeTo(DataOutput out) throws IOException {
+		out.writeLong(totalCount);
+		out.writeLong(sum);
+		out.writeInt(min);
+		out.writeInt(max);
+		int used = 0;
+		for (long count : counts) {
+			used += count > 0 ? 1 : 0;
+		}
+		out.writeInt(used);
+		for (int i = 0; i < counts.length; i++) {
+			if (counts[i] > 0) {
+				out.writeShort(i);
+				out.writeLong(counts[i]);
+			}
+		}
+	}
+
+	// Lee las frecuencias escritas con writeTo() sobre este histograma vacío.
+	void readFrom(DataInput in) throws IOException {
+		totalCount = in.readLong();
+		sum = in.readLong();
+		min = in.readInt();
+		max = in.readInt();
+		int used = in.readInt();
+		for (int i = 0; i < used; i++) {
+			int bucket = in.readUnsignedShort();
+			counts[bucket] = in.readLong();
+		}
+	}
+
+	// Genera un resumen con la media y los percentiles p50, p95 y p99.
+	public String summary() {
+		if (totalCount == 0) {
+			return String.format("%s : sin datos%n", name);
+		}
+		return String.format("%s : n=%d media=%.2f min=%d p50=%.0f p95=%.0f p99=%.0f max=%d%n",
+				name, totalCount, getMean(), min, getValueAtQuantile(0.50),
+				getValueAtQuantile(0.95), getValueAtQuantile(0.99), max);
+	}
+}
@@ -48,7 +48,7 @@ public class Team {
     public void giveLaunchToLuckiestArcher(int round) {
         Archer archer = getLuckiestArcher(); // Obtiene el arquero con más suerte
         if (archer != null) { // Asegura que el arquero no sea nulo
-            score += archer.calculateScoreLaunch(); // Actualiza la puntuación del equipo con el puntaje del lanzamiento
+            score += archer.calculateScoreLaunch(ShotKind.RANDOM); // Actualiza la puntuación del equipo con el puntaje del lanzamiento
             archer.increaseRandomShotsWon(round); // Aumenta la cantidad de lanzamientos aleatorios ganados por el arquero
             archer.increaseTotalLuck(); // Incrementa la suerte total del arquero
         }
@@ -57,7 +57,7 @@ public class Team {
     public void giveExtraLaunchForThreeConsecutiveExtraLaunch() {
         for (Archer archer : archers) {
             if (archer.getRandomShotsWon() == 3) // Verifica si el arquero ha ganado tres lanzamientos consecutivos
-                score += archer.calculateScoreLaunch(); // Actualiza la puntuación del equipo con el puntaje del lanzamiento
+                score += archer.calculateScoreLaunch(ShotKind.EXTRA); // Actualiza la puntuación del equipo con el puntaje del lanzamiento
         }
     }
     // Obtiene el arquero con la puntuación más alta en la ronda actual.
@@ -0,0 +1,62 @@
+package org.archery.simulation.model;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+// Implementación de ShotKernel con la API vectorial (jdk.incubator.vector): cada carril SIMD es
+// un arquero. El generador por contador, la clasificación del impacto y la suma de la ronda se
+// hacen en registros vectoriales, y las flechas que sobran en cada carril se enmascaran.
+// Solo debe cargarse a través de ShotKernels, que comprueba antes que el módulo esté disponible.
+public class VectorShotKernel implements ShotKernel {
+
+	private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Long> LONGS = VectorSpecies.of(long.class, DOUBLES.vectorShape());
+	private static final VectorSpecies<Integer> INTS = VectorSpecies.of(int.class,
+			VectorShape.forBitSize(DOUBLES.vectorBitSize() / 2)); // Mismo número de carriles
+
+	@Override
+	public void shoot(long seed, double[] central, double[] intermediate, double[] outside,
+			int[] launches, int lanes, int[] scores) {
+		for (int base = 0; base < lanes; base += DOUBLES.length()) {
+			VectorMask<Double> inRange = DOUBLES.indexInRange(base, lanes);
+			VectorMask<Integer> intsInRange = INTS.indexInRange(base, lanes);
+			DoubleVector c1 = DoubleVector.fromArray(DOUBLES, central, base, inRange);
+			DoubleVector c2 = DoubleVector.fromArray(DOUBLES, intermediate, base, inRange);
+			DoubleVector c3 = DoubleVector.fromArray(DOUBLES, outside, base, inRange);
+			DoubleVector count = (DoubleVector) IntVector.fromArray(INTS, launches, base, intsInRange)
+					.convertShape(VectorOperators.I2D, DOUBLES, 0);
+			int maxLaunches = (int) count.reduceLanes(VectorOperators.MAX, inRange);
+			// Contador de la primera flecha de cada carril: carril * MAX_LAUNCHES + 1
+			LongVector counter = LongVector.broadcast(LONGS, base).addIndex(1).mul(MAX_LAUNCHES).add(1);
+			DoubleVector total = DoubleVector.zero(DOUBLES);
+			for (int launch = 0; launch < maxLaunches; launch++) {
+				DoubleVector uniform = uniforms(seed, counter.add(launch));
+				DoubleVector score = DoubleVector.zero(DOUBLES)
+						.blend(Shot.OUTSIDE.getScore(), uniform.compare(VectorOperators.LE, c3))
+						.blend(Shot.INTERMEDIATE.getScore(), uniform.compare(VectorOperators.LE, c2))
+						.blend(Shot.CENTRAL.getScore(), uniform.compare(VectorOperators.LE, c1));
+				total = total.add(score, count.compare(VectorOperators.GT, launch));
+			}
+			((IntVector) total.convertShape(VectorOperators.D2I, INTS, 0)).intoArray(scores, base, intsInRange);
+		}
+	}
+
+	// Uniformes SplitMix64 de los contadores de cada carril, igual que ShotKernel.uniform().
+	private static DoubleVector uniforms(long seed, LongVector counter) {
+		LongVector z = counter.mul(GOLDEN_GAMMA).add(seed);
+		z = z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 30)).mul(0xBF58476D1CE4E5B9L);
+		z = z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 27)).mul(0x94D049BB133111EBL);
+		z = z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 31));
+		return ((DoubleVector) z.lanewise(VectorOperators.LSHR, 11).convert(VectorOperators.L2D, 0)).mul(UNIT);
+	}
+
+	@Override
+	public String getDescription() {
+		return String.format("Vectorial (%d bits, %d carriles)", DOUBLES.vectorBitSize(), DOUBLES.length());
+	}
+}
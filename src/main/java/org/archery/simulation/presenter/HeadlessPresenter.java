@@ -0,0 +1,60 @@
+package org.archery.simulation.presenter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+import org.archery.simulation.cache.ResultCache;
+import org.archery.simulation.jfr.ReportEvent;
+import org.archery.simulation.model.Game;
+import org.archery.simulation.model.ProgressTracker;
+import org.archery.simulation.model.SimulationConfig;
+import org.archery.simulation.model.SimulationResult;
+
+import lombok.Getter;
+
+// Ejecuta la simulación sin interfaz gráfica y escribe los resultados agregados en la consola.
+// Opcionalmente exporta los histogramas completos a un fichero CSV.
+public class HeadlessPresenter {
+
+	// Resultado de la simulación.
+	@Getter
+	private final SimulationResult simulation;
+
+	// @param config Configuración de la simulación.
+	// @param out Salida donde se escriben los resultados.
+	// @param histogramPath Fichero CSV para los histogramas, o null para no exportarlos.
+	// @param cache Caché de resultados, o null para simular siempre.
+	public HeadlessPresenter(SimulationConfig config, PrintStream out, Path histogramPath, ResultCache cache) {
+		simulation = cache == null
+				? new Game(config).getResult()
+				: cache.obtain(config, null, new ProgressTracker());
+
+		out.println("Equipo Ganador: " + simulation.getWinningTeam());
+		out.println("Puntuación: " + simulation.getPoints());
+		out.println("Ganador del juego de género: " + simulation.getGenderWinStatistics());
+		out.print(ReportEvent.build("Convergencia", simulation::getConvergenceReport));
+		out.print(ReportEvent.build("Sensibilidad", simulation::getSensitivityReport));
+		out.print(ReportEvent.build("Sucesos raros", simulation::getRareEventReport));
+		out.print(ReportEvent.build("Distribuciones", simulation::getDistributionReport));
+		out.print(ReportEvent.build("Carrera", simulation::getCareerReport));
+		printLeaderboard(out, "Arqueros con más suerte", simulation::getLuckyArchers);
+		printLeaderboard(out, "Arqueros con más experiencia", simulation::getExperiencedArchers);
+		printLeaderboard(out, "Partidos con más puntos", simulation::getTopMatches);
+
+		if (histogramPath != null) {
+			try {
+				HistogramExporter.export(histogramPath, simulation.getHistograms());
+			} catch (IOException e) {
+				throw new UncheckedIOException("No se pudieron exportar los histogramas", e);
+			}
+		}
+	}
+
+	private static void printLeaderboard(PrintStream out, String title, Supplier<String> leaderboard) {
+		out.println(title + ":");
+		out.print(ReportEvent.build(title, leaderboard));
+	}
+}
@@ -0,0 +1,41 @@
+package org.archery.simulation.presenter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.archery.simulation.model.StreamingHistogram;
+
+// Exporta los histogramas de la simulación en formato CSV, sin necesidad de la interfaz gráfica.
+// Solo se escriben las cubetas con frecuencia distinta de cero.
+public class HistogramExporter {
+
+	// Escribe los histogramas en un fichero CSV.
+	// @param path Ruta del fichero de salida.
+	// @param histograms Histogramas a exportar.
+	public static void export(Path path, List<StreamingHistogram> histograms) throws IOException {
+		try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			write(writer, histograms);
+		}
+	}
+
+	// Escribe los histogramas en formato CSV: histograma, límite inferior, límite superior y frecuencia.
+	// @param writer Destino de la exportación.
+	// @param histograms Histogramas a exportar.
+	public static void write(Writer writer, List<StreamingHistogram> histograms) throws IOException {
+		writer.write("histograma,desde,hasta,frecuencia\n");
+		for (StreamingHistogram histogram : histograms) {
+			for (int bucket = 0; bucket < histogram.getBucketCount(); bucket++) {
+				long count = histogram.getCount(bucket);
+				if (count > 0) {
+					long lower = StreamingHistogram.bucketLowerBound(bucket);
+					long upper = lower + StreamingHistogram.bucketWidth(bucket) - 1;
+					writer.write('"' + histogram.getName() + "\"," + lower + ',' + upper + ',' + count + '\n');
+				}
+			}
+		}
+	}
+}
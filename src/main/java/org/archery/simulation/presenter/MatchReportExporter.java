@@ -0,0 +1,36 @@
+package org.archery.simulation.presenter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.archery.simulation.model.SimulationResult;
+import org.archery.simulation.report.MatchReport;
+
+// Exporta los informes por partido (suerte, experiencia y género ganador) a ficheros de texto,
+// sin necesidad de la interfaz gráfica. Los informes se escriben por bloques, con memoria
+// constante, por lo que admiten simulaciones de millones de partidos.
+public class MatchReportExporter {
+
+	// Escribe cada informe por partido en su fichero dentro de un directorio.
+	// @param directory Directorio de salida; se crea si no existe.
+	// @param result Resultado de la simulación, con los partidos conservados.
+	public static void export(Path directory, SimulationResult result) throws IOException {
+		Files.createDirectories(directory);
+		for (MatchReport report : MatchReport.values()) {
+			export(directory.resolve(report.getFileName()), result, report);
+		}
+	}
+
+	// Escribe un informe por partido en un fichero.
+	// @param path Ruta del fichero de salida.
+	// @param result Resultado de la simulación.
+	// @param report Informe a exportar.
+	public static void export(Path path, SimulationResult result, MatchReport report) throws IOException {
+		try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			result.writeMatchReport(report, writer);
+		}
+	}
+}
@@ -1,31 +1,64 @@
 package org.archery.simulation.presenter;
 
+import org.archery.simulation.cache.ResultCache;
+import org.archery.simulation.jfr.ReportEvent;
 import org.archery.simulation.model.Game;
+import org.archery.simulation.model.ProgressTracker;
+import org.archery.simulation.model.SimulationConfig;
+import org.archery.simulation.model.SimulationResult;
+import org.archery.simulation.report.MatchReport;
 import org.archery.simulation.view.MainView;
+import org.archery.simulation.view.MatchReportTableModel;
 
 // La clase Presenter actúa como un intermediario entre la lógica de simulación del modelo y la vista.
 // Es responsable de inicializar la simulación y proporcionar los datos necesarios a la vista.
 public class Presenter {
 
-	// Instancia de la simulación del juego, que controla el comportamiento y los datos del juego.
-	private Game simulation;
+	// Resultado de la simulación, que proporciona los datos del juego.
+	private SimulationResult simulation;
 
 	// Constructor de la clase Presenter que inicializa la simulación y la vista con los datos del juego.
 	//
 	// @param games El número de juegos a simular.
 	public Presenter(int games) {
-		// Inicializa la simulación con el número de juegos especificado.
-		simulation = new Game(games);
+		this(new SimulationConfig(games));
+	}
+
+	// Constructor que inicializa la simulación a partir de una configuración completa.
+	//
+	// @param config Configuración de la simulación (juegos, semilla y modo de muestreo).
+	public Presenter(SimulationConfig config) {
+		this(config, null);
+	}
+
+	// Constructor que reutiliza la caché de resultados: si la configuración ya se simuló,
+	// la vista se abre sin volver a simular; si se simuló con menos juegos, solo se simulan los que faltan.
+	//
+	// @param config Configuración de la simulación.
+	// @param cache Caché de resultados, o null para simular siempre.
+	public Presenter(SimulationConfig config, ResultCache cache) {
+		// Inicializa la simulación con la configuración especificada.
+		simulation = cache == null
+				? new Game(config).getResult()
+				: cache.obtain(config, null, new ProgressTracker());
 
 		// Crea una nueva vista y proporciona los resultados de la simulación a la vista.
+		// Cada informe se construye dentro de un evento JFR (ReportEvent) para medir su coste.
 		new MainView(
-				simulation.getLuckyArchers(),        // Lista de los arqueros más afortunados.
-				simulation.getExperiencedArchers(),  // Lista de los arqueros más experimentados.
+				ReportEvent.build("Arqueros con más suerte", simulation::getLuckyArchers),
+				ReportEvent.build("Arqueros con más experiencia", simulation::getExperiencedArchers),
 				simulation.getWinningTeam(),         // El equipo ganador.
-				simulation.getGendersByMatch(),      // Género ganador en cada juego.
+				new MatchReportTableModel(simulation, MatchReport.GENDERS), // Se genera fila a fila al mostrarse.
 				simulation.getGenderWinStatistics(), // Estadísticas de victorias por género.
-				simulation.getAllArchers(),          // Lista de todos los arqueros.
-				simulation.getPoints()               // Puntos obtenidos.
+				simulation.getScoreSample(),         // Puntuaciones de los primeros arqueros.
+				simulation.getPoints(),              // Puntos obtenidos.
+				ReportEvent.build("Convergencia", () -> simulation.getConvergenceReport() + simulation.getSensitivityReport()
+						+ simulation.getRareEventReport()),
+				ReportEvent.build("Distribuciones", simulation::getDistributionReport),
+				simulation.getHistograms(),          // Histogramas de puntuaciones, suerte y experiencia.
+				ReportEvent.build("Carrera", simulation::getCareerReport),
+				simulation.getCareerStore(),         // Totales de carrera para el gráfico por arquero.
+				ReportEvent.build("Partidos con más puntos", simulation::getTopMatches)
 		);
 	}
 }
@@ -0,0 +1,64 @@
+package org.archery.simulation.report;
+
+import java.io.IOException;
+
+import org.archery.simulation.model.MatchLog;
+
+import lombok.Getter;
+
+// Informes con una línea por partido, generados a partir del registro compacto de partidos.
+@Getter
+public enum MatchReport {
+
+	// Arquero con más suerte de cada partido.
+	LUCKY_ARCHERS("Arqueros con más suerte por partido", "suerte.txt") {
+		@Override
+		public void writeLine(ReportWriter out, MatchLog log, int match) throws IOException {
+			out.append("Partido ").append(match + 1).append(" : Arquero ").append(log.getLuckyArcherId(match))
+					.append(" Total de lanzamientos ganados : ").append(log.getLuckyArcherLuck(match));
+		}
+	},
+
+	// Arquero con más experiencia de cada partido.
+	EXPERIENCED_ARCHERS("Arqueros con más experiencia por partido", "experiencia.txt") {
+		@Override
+		public void writeLine(ReportWriter out, MatchLog log, int match) throws IOException {
+			out.append("Partido ").append(match + 1).append(" : Arquero ").append(log.getExperiencedArcherId(match))
+					.append(" Experiencia total adquirida : ").append(log.getExperience(match));
+		}
+	},
+
+	// Género ganador de cada partido.
+	GENDERS("Género ganador por partido", "genero.txt") {
+		@Override
+		public void writeLine(ReportWriter out, MatchLog log, int match) throws IOException {
+			out.append("Partido ").append(match + 1).append(" : ").append(log.getWinnerGender(match));
+		}
+	};
+
+	private final String label; // Nombre legible del informe
+	private final String fileName; // Fichero del informe al exportarlo a un directorio
+
+	private MatchReport(String label, String fileName) {
+		this.label = label;
+		this.fileName = fileName;
+	}
+
+	// Escribe la línea de un partido, sin el salto de línea final.
+	// @param out Escritor del informe.
+	// @param log Registro de partidos.
+	// @param match Índice del partido.
+	public abstract void writeLine(ReportWriter out, MatchLog log, int match) throws IOException;
+
+	// Escribe el informe completo, una línea por partido.
+	// @param out Destino del informe.
+	// @param log Registro de partidos, o null si no se conservaron.
+	public void write(Appendable out, MatchLog log) throws IOException {
+		ReportWriter writer = new ReportWriter(out);
+		for (int match = 0; log != null && match < log.size(); match++) {
+			writeLine(writer, log, match);
+			writer.newLine();
+		}
+		writer.flush();
+	}
+}
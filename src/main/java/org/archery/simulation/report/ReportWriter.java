@@ -0,0 +1,111 @@
+package org.archery.simulation.report;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+// Escritor de informes línea a línea con un búfer de caracteres propio. Formatea los enteros a
+// mano en lugar de usar String.format y vuelca el búfer al destino por bloques, de modo que la
+// memoria usada no depende del tamaño del informe. No es seguro entre hilos.
+public class ReportWriter implements Flushable {
+
+	private static final int BUFFER_SIZE = 1 << 16; // Caracteres por bloque
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+
+	private final Appendable out; // Destino del informe
+	private final char[] buffer; // Caracteres pendientes de volcar
+	private int position; // Caracteres ocupados del búfer
+
+	// @param out Destino del informe (un Writer, un StringBuilder...).
+	public ReportWriter(Appendable out) {
+		this(out, BUFFER_SIZE);
+	}
+
+	// @param out Destino del informe.
+	// @param bufferSize Caracteres por bloque; un valor pequeño basta para escribir líneas sueltas.
+	public ReportWriter(Appendable out, int bufferSize) {
+		if (bufferSize < 16) {
+			throw new IllegalArgumentException("El búfer debe tener al menos 16 caracteres");
+		}
+		this.out = out;
+		this.buffer = new char[bufferSize];
+	}
+
+	// Agrega un texto.
+	public ReportWriter append(String text) throws IOException {
+		int offset = 0;
+		while (offset < text.length()) {
+			if (position == buffer.length) {
+				drain();
+			}
+			int count = Math.min(text.length() - offset, buffer.length - position);
+			text.getChars(offset, offset + count, buffer, position);
+			position += count;
+			offset += count;
+		}
+		return this;
+	}
+
+	// Agrega un carácter.
+	public ReportWriter append(char c) throws IOException {
+		if (position == buffer.length) {
+			drain();
+		}
+		buffer[position++] = c;
+		return this;
+	}
+
+	// Agrega un entero en base 10 sin crear cadenas intermedias.
+	public ReportWriter append(int value) throws IOException {
+		if (value == Integer.MIN_VALUE) {
+			return append(Integer.toString(value)); // No tiene opuesto en int
+		}
+		if (value < 0) {
+			append('-');
+			value = -value;
+		}
+		int digits = 1;
+		for (int bound = 10; digits < 10 && value >= bound; bound *= 10) {
+			digits++;
+		}
+		if (buffer.length - position < digits) {
+			drain();
+		}
+		for (int i = position + digits - 1; i >= position; i--) {
+			buffer[i] = (char) ('0' + value % 10);
+			value /= 10;
+		}
+		position += digits;
+		return this;
+	}
+
+	// Termina la línea actual.
+	public ReportWriter newLine() throws IOException {
+		return append(LINE_SEPARATOR);
+	}
+
+	// Vuelca el búfer al destino y, si el destino lo admite, también lo vacía.
+	@Override
+	public void flush() throws IOException {
+		drain();
+		if (out instanceof Flushable flushable) {
+			flushable.flush();
+		}
+	}
+
+	// Vuelca el búfer al destino.
+	private void drain() throws IOException {
+		if (position == 0) {
+			return;
+		}
+		if (out instanceof Writer writer) {
+			writer.write(buffer, 0, position);
+		} else if (out instanceof StringBuilder builder) {
+			builder.append(buffer, 0, position);
+		} else {
+			out.append(CharBuffer.wrap(buffer, 0, position));
+		}
+		position = 0;
+	}
+}
@@ -0,0 +1,182 @@
+package org.archery.simulation.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Utilidades mínimas de JSON para el servicio de simulaciones: lectura de objetos planos
+// (números, cadenas y booleanos) y escritura de objetos anidados.
+final class Json {
+
+	private Json() {
+	}
+
+	// Lee un objeto JSON plano. Los valores se devuelven como texto sin comillas y sin escapes.
+	// @param text Texto del objeto; vacío equivale a un objeto vacío.
+	// @return Mapa con las claves y valores del objeto.
+	static Map<String, String> parseObject(String text) {
+		Map<String, String> values = new LinkedHashMap<>();
+		String body = text.strip();
+		if (body.isEmpty()) {
+			return values;
+		}
+		if (!body.startsWith("{") || !body.endsWith("}")) {
+			throw new IllegalArgumentException("Se esperaba un objeto JSON");
+		}
+		int i = 1;
+		int end = body.length() - 1;
+		while (true) {
+			i = skipWhitespace(body, i);
+			if (i >= end) {
+				break;
+			}
+			if (body.charAt(i) != '"') {
+				throw new IllegalArgumentException("Se esperaba una clave en la posición " + i);
+			}
+			int keyEnd = closingQuote(body, i);
+			String key = unescape(body, i + 1, keyEnd);
+			i = skipWhitespace(body, keyEnd + 1);
+			if (body.charAt(i) != ':') {
+				throw new IllegalArgumentException("Se esperaba ':' en la posición " + i);
+			}
+			i = skipWhitespace(body, i + 1);
+			String value;
+			if (body.charAt(i) == '"') {
+				int valueEnd = closingQuote(body, i);
+				value = unescape(body, i + 1, valueEnd);
+				i = valueEnd + 1;
+			} else {
+				int valueEnd = i;
+				while (valueEnd < end && body.charAt(valueEnd) != ',' && !Character.isWhitespace(body.charAt(valueEnd))) {
+					valueEnd++;
+				}
+				value = body.substring(i, valueEnd);
+				i = valueEnd;
+			}
+			values.put(key, value);
+			i = skipWhitespace(body, i);
+			if (i < end && body.charAt(i) == ',') {
+				i++;
+			}
+		}
+		return values;
+	}
+
+	// Busca las comillas que cierran la cadena que empieza en la posición dada, saltando los
+	// caracteres escapados (\" no cierra la cadena).
+	private static int closingQuote(String text, int start) {
+		for (int i = start + 1; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '\\') {
+				i++; // El carácter siguiente forma parte del escape
+			} else if (c == '"') {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("Cadena sin cerrar en la posición " + start);
+	}
+
+	// Deshace los escapes de una cadena JSON (el inverso de quote()).
+	// @param from Primer carácter tras las comillas de apertura.
+	// @param to Posición de las comillas de cierre.
+	private static String unescape(String text, int from, int to) {
+		int firstEscape = text.indexOf('\\', from);
+		if (firstEscape < 0 || firstEscape >= to) {
+			return text.substring(from, to);
+		}
+		StringBuilder value = new StringBuilder(to - from);
+		for (int i = from; i < to; i++) {
+			char c = text.charAt(i);
+			if (c != '\\') {
+				value.append(c);
+				continue;
+			}
+			char escaped = text.charAt(++i); // closingQuote() garantiza que el escape no cae en el cierre
+			switch (escaped) {
+				case '"', '\\', '/' -> value.append(escaped);
+				case 'b' -> value.append('\b');
+				case 'f' -> value.append('\f');
+				case 'n' -> value.append('\n');
+				case 'r' -> value.append('\r');
+				case 't' -> value.append('\t');
+				case 'u' -> {
+					if (i + 4 >= to) {
+						throw new IllegalArgumentException("Escape \\u incompleto en la posición " + (i - 1));
+					}
+					try {
+						value.append((char) Integer.parseInt(text.substring(i + 1, i + 5), 16));
+					} catch (NumberFormatException e) {
+						throw new IllegalArgumentException("Escape \\u no válido en la posición " + (i - 1));
+					}
+					i += 4;
+				}
+				default -> throw new IllegalArgumentException("Escape no válido en la posición " + (i - 1));
+			}
+		}
+		return value.toString();
+	}
+
+	private static int skipWhitespace(String text, int i) {
+		while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+
+	// Constructor incremental de objetos JSON.
+	static final class ObjectBuilder {
+		private final StringBuilder json = new StringBuilder("{");
+		private boolean first = true;
+
+		ObjectBuilder add(String key, String value) {
+			return raw(key, value == null ? "null" : quote(value));
+		}
+
+		ObjectBuilder add(String key, long value) {
+			return raw(key, Long.toString(value));
+		}
+
+		ObjectBuilder add(String key, double value) {
+			return raw(key, Double.isFinite(value) ? Double.toString(value) : "null");
+		}
+
+		ObjectBuilder add(String key, ObjectBuilder value) {
+			return raw(key, value.build());
+		}
+
+		private ObjectBuilder raw(String key, String value) {
+			if (!first) {
+				json.append(',');
+			}
+			first = false;
+			json.append(quote(key)).append(':').append(value);
+			return this;
+		}
+
+		String build() {
+			return json + "}";
+		}
+	}
+
+	// Escapa una cadena como literal JSON.
+	static String quote(String value) {
+		StringBuilder quoted = new StringBuilder("\"");
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"' -> quoted.append("\\\"");
+				case '\\' -> quoted.append("\\\\");
+				case '\n' -> quoted.append("\\n");
+				case '\r' -> quoted.append("\\r");
+				case '\t' -> quoted.append("\\t");
+				default -> {
+					if (c < 0x20) {
+						quoted.append(String.format("\\u%04x", (int) c));
+					} else {
+						quoted.append(c);
+					}
+				}
+			}
+		}
+		return quoted.append('"').toString();
+	}
+}
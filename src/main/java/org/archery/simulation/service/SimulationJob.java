@@ -0,0 +1,136 @@
+package org.archery.simulation.service;
+
+import org.archery.simulation.model.ConvergenceEstimator;
+import org.archery.simulation.model.Estimate;
+import org.archery.simulation.model.Game;
+import org.archery.simulation.model.ProgressTracker;
+import org.archery.simulation.model.SimulationConfig;
+import org.archery.simulation.model.SimulationStatistics;
+import org.archery.simulation.model.StreamingHistogram;
+
+import lombok.Getter;
+
+// Simulación enviada al servicio: su configuración, su estado y, al terminar, sus resultados agregados.
+@Getter
+public class SimulationJob {
+
+	// Estados por los que pasa un trabajo.
+	public enum Status {
+		QUEUED, RUNNING, COMPLETED, CANCELLED, FAILED
+	}
+
+	private final String id; // Identificador del trabajo
+	private final SimulationConfig config; // Configuración de la simulación
+	private final ProgressTracker progress; // Progreso y cancelación
+	private volatile Status status; // Estado actual
+	private volatile String error; // Mensaje de error si la simulación falló
+	private volatile String resultJson; // Resultados agregados en JSON, cuando el trabajo termina
+	private volatile long finishedAt; // Instante (System.nanoTime) en que terminó el trabajo
+
+	SimulationJob(String id, SimulationConfig config) {
+		this.id = id;
+		this.config = config;
+		this.progress = new ProgressTracker();
+		this.status = Status.QUEUED;
+	}
+
+	// Pide la cancelación del trabajo; si aún estaba en cola no llegará a ejecutarse.
+	// @return true si el trabajo seguía activo.
+	synchronized boolean cancel() {
+		if (isFinished()) {
+			return false;
+		}
+		progress.cancel();
+		if (status == Status.QUEUED) {
+			finish(Status.CANCELLED);
+		}
+		return true;
+	}
+
+	// Marca el trabajo como en ejecución, salvo que se haya cancelado mientras esperaba.
+	// @return true si el trabajo debe ejecutarse.
+	synchronized boolean start() {
+		if (status != Status.QUEUED) {
+			return false;
+		}
+		status = Status.RUNNING;
+		return true;
+	}
+
+	// Registra los resultados de la simulación terminada.
+	synchronized void complete(Game game) {
+		resultJson = toJson(game);
+		finish(Status.COMPLETED);
+	}
+
+	// Registra que la simulación se detuvo por una cancelación.
+	synchronized void cancelled() {
+		finish(Status.CANCELLED);
+	}
+
+	// Registra que la simulación falló.
+	synchronized void fail(Throwable cause) {
+		error = String.valueOf(cause.getMessage());
+		finish(Status.FAILED);
+	}
+
+	// Pasa el trabajo a un estado final y anota cuándo terminó.
+	private void finish(Status finalStatus) {
+		finishedAt = System.nanoTime();
+		status = finalStatus;
+	}
+
+	// Indica si el trabajo ha terminado, con o sin éxito.
+	public boolean isFinished() {
+		return status == Status.COMPLETED || status == Status.CANCELLED || status == Status.FAILED;
+	}
+
+	// Describe el estado y el progreso del trabajo en JSON.
+	String statusJson() {
+		return new Json.ObjectBuilder()
+				.add("id", id)
+				.add("status", status.name())
+				.add("completedGames", progress.getCompletedGames())
+				.add("totalGames", config.getNumberOfGames())
+				.add("progress", progress.getProgress())
+				.add("error", error)
+				.build();
+	}
+
+	// Convierte los resultados agregados de la simulación a JSON.
+	private String toJson(Game game) {
+		SimulationStatistics statistics = game.getStatistics();
+		Json.ObjectBuilder estimates = new Json.ObjectBuilder();
+		for (ConvergenceEstimator.Metric metric : ConvergenceEstimator.Metric.values()) {
+			Estimate estimate = game.estimate(metric);
+			estimates.add(metric.name(), new Json.ObjectBuilder()
+					.add("mean", estimate.getMean())
+					.add("standardError", estimate.getStandardError()));
+		}
+		Json.ObjectBuilder histograms = new Json.ObjectBuilder();
+		for (StreamingHistogram histogram : statistics.getHistograms()) {
+			histograms.add(histogram.getName(), new Json.ObjectBuilder()
+					.add("count", histogram.getTotalCount())
+					.add("mean", histogram.getMean())
+					.add("min", histogram.getTotalCount() == 0 ? 0 : histogram.getMin())
+					.add("p50", histogram.getValueAtQuantile(0.50))
+					.add("p95", histogram.getValueAtQuantile(0.95))
+					.add("p99", histogram.getValueAtQuantile(0.99))
+					.add("max", histogram.getTotalCount() == 0 ? 0 : histogram.getMax()));
+		}
+		return new Json.ObjectBuilder()
+				.add("id", id)
+				.add("games", config.getNumberOfGames())
+				.add("seed", config.getSeed())
+				.add("samplingMode", config.getSamplingMode().name())
+				.add("winningTeam", game.getWinningTeam())
+				.add("team1Score", statistics.getTeam1Score())
+				.add("team2Score", statistics.getTeam2Score())
+				.add("maleVictories", statistics.getMaleVictories())
+				.add("femaleVictories", statistics.getFemaleVictories())
+				.add("winningGender", game.getGenderWinStatistics())
+				.add("estimates", estimates)
+				.add("histograms", histograms)
+				.build();
+	}
+}
@@ -0,0 +1,270 @@
+package org.archery.simulation.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.archery.simulation.model.Game;
+import org.archery.simulation.model.SamplingMode;
+import org.archery.simulation.model.SimulationConfig;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// Servicio HTTP local para enviar simulaciones sin abrir la interfaz gráfica.
+//
+// POST   /jobs             Envía una simulación. Cuerpo JSON opcional con games, seed, mode
+//                          (PSEUDO_RANDOM o QUASI_MONTE_CARLO), replicates y threads.
+// GET    /jobs/{id}        Estado y progreso del trabajo.
+// DELETE /jobs/{id}        Cancela el trabajo; si ya había terminado, lo elimina.
+// GET    /jobs/{id}/result Resultados agregados en JSON cuando el trabajo ha terminado.
+//
+// Los trabajos esperan en una cola acotada y se ejecutan como máximo maxConcurrentJobs a la vez,
+// repartiendo sus juegos en un grupo de hilos compartido. Si la cola está llena, el envío se rechaza
+// con 429. Un trabajo cancelado mientras espera deja su hueco en la cola al momento. Los trabajos
+// terminados se conservan para consultar su resultado durante un tiempo limitado y, como mucho,
+// los maxFinishedJobs más recientes.
+public class SimulationService {
+
+	private static final int MAX_GAMES_PER_JOB = 10_000_000; // Límite de juegos por trabajo
+	public static final Duration DEFAULT_FINISHED_JOB_TTL = Duration.ofMinutes(30); // Tiempo que se conserva un trabajo terminado
+	public static final int DEFAULT_MAX_FINISHED_JOBS = 256; // Trabajos terminados que se conservan como mucho
+
+	private final HttpServer server; // Servidor HTTP embebido
+	private final ThreadPoolExecutor jobRunner; // Ejecuta los trabajos, con cola acotada
+	private final ExecutorService workerPool; // Hilos compartidos donde se simulan los juegos
+	private final int workerThreads; // Tamaño del grupo compartido
+	private final Map<String, SimulationJob> jobs; // Trabajos conocidos por identificador
+	private final AtomicLong nextId; // Generador de identificadores
+	private final long finishedJobTtlNanos; // Tiempo que se conserva un trabajo terminado
+	private final int maxFinishedJobs; // Trabajos terminados que se conservan como mucho
+
+	// Crea el servicio escuchando en localhost.
+	// @param port Puerto de escucha; 0 elige un puerto libre.
+	// @param maxConcurrentJobs Trabajos que pueden ejecutarse a la vez.
+	// @param queueCapacity Trabajos que pueden esperar en cola.
+	// @param workerThreads Hilos del grupo compartido por todos los trabajos.
+	public SimulationService(int port, int maxConcurrentJobs, int queueCapacity, int workerThreads) throws IOException {
+		this(port, maxConcurrentJobs, queueCapacity, workerThreads, DEFAULT_FINISHED_JOB_TTL, DEFAULT_MAX_FINISHED_JOBS);
+	}
+
+	// Crea el servicio escuchando en localhost, con límites propios para los trabajos terminados.
+	// @param finishedJobTtl Tiempo que se conserva un trabajo terminado antes de eliminarlo.
+	// @param maxFinishedJobs Trabajos terminados que se conservan como mucho.
+	public SimulationService(int port, int maxConcurrentJobs, int queueCapacity, int workerThreads,
+			Duration finishedJobTtl, int maxFinishedJobs) throws IOException {
+		if (maxConcurrentJobs <= 0 || queueCapacity <= 0 || workerThreads <= 0 || maxFinishedJobs <= 0
+				|| finishedJobTtl.isNegative()) {
+			throw new IllegalArgumentException("Los límites del servicio deben ser positivos");
+		}
+		this.finishedJobTtlNanos = finishedJobTtl.toNanos();
+		this.maxFinishedJobs = maxFinishedJobs;
+		this.workerThreads = workerThreads;
+		this.jobs = new ConcurrentHashMap<>();
+		this.nextId = new AtomicLong();
+		this.workerPool = Executors.newFixedThreadPool(workerThreads);
+		this.jobRunner = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.AbortPolicy());
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+		server.createContext("/jobs", this::handle);
+		server.setExecutor(Executors.newFixedThreadPool(2));
+	}
+
+	// Inicia el servidor.
+	public void start() {
+		server.start();
+	}
+
+	// Detiene el servidor y cancela los trabajos pendientes.
+	public void stop() {
+		server.stop(0);
+		jobs.values().forEach(SimulationJob::cancel);
+		jobRunner.shutdownNow();
+		workerPool.shutdownNow();
+		((ExecutorService) server.getExecutor()).shutdownNow();
+	}
+
+	// Obtiene el puerto en el que escucha el servidor.
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	// Atiende todas las peticiones bajo /jobs.
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			evictFinishedJobs();
+			String[] path = exchange.getRequestURI().getPath().replaceAll("/+$", "").split("/");
+			String method = exchange.getRequestMethod();
+			// path[0] = "", path[1] = "jobs", path[2] = id, path[3] = "result"
+			if (path.length == 2 && "POST".equals(method)) {
+				submit(exchange);
+			} else if (path.length == 3 && "GET".equals(method)) {
+				withJob(exchange, path[2], job -> send(exchange, 200, job.statusJson()));
+			} else if (path.length == 3 && "DELETE".equals(method)) {
+				withJob(exchange, path[2], job -> cancel(exchange, job));
+			} else if (path.length == 4 && "result".equals(path[3]) && "GET".equals(method)) {
+				withJob(exchange, path[2], job -> result(exchange, job));
+			} else {
+				sendError(exchange, 404, "Ruta no encontrada");
+			}
+		} catch (IllegalArgumentException e) {
+			sendError(exchange, 400, e.getMessage());
+		} catch (RuntimeException e) {
+			sendError(exchange, 500, "Error interno: " + e);
+		} finally {
+			exchange.close();
+		}
+	}
+
+	// Envía un nuevo trabajo a la cola.
+	private void submit(HttpExchange exchange) throws IOException {
+		SimulationConfig config = parseConfig(readBody(exchange));
+		SimulationJob job = new SimulationJob(Long.toString(nextId.incrementAndGet()), config);
+		jobs.put(job.getId(), job);
+		try {
+			jobRunner.execute(new JobTask(job));
+		} catch (RejectedExecutionException e) {
+			jobs.remove(job.getId());
+			sendError(exchange, 429, "La cola de simulaciones está llena");
+			return;
+		}
+		send(exchange, 202, job.statusJson());
+	}
+
+	// Ejecuta un trabajo en un hilo del ejecutor de trabajos.
+	private void run(SimulationJob job) {
+		if (!job.start()) {
+			return; // Cancelado mientras esperaba en cola
+		}
+		try {
+			job.complete(new Game(job.getConfig(), workerPool, job.getProgress()));
+		} catch (CancellationException e) {
+			job.cancelled();
+		} catch (RuntimeException | Error e) {
+			job.fail(e);
+		}
+	}
+
+	// Cancela un trabajo activo o elimina uno terminado.
+	private void cancel(HttpExchange exchange, SimulationJob job) throws IOException {
+		if (!job.cancel()) {
+			jobs.remove(job.getId());
+		} else if (job.getStatus() == SimulationJob.Status.CANCELLED) {
+			// Cancelado en cola: libera su hueco sin esperar a que un hilo lo descarte
+			jobRunner.getQueue().removeIf(task -> task instanceof JobTask queued && queued.job == job);
+		}
+		send(exchange, 200, job.statusJson());
+	}
+
+	// Elimina los trabajos terminados que han caducado y, si aún sobran, los que terminaron antes.
+	private void evictFinishedJobs() {
+		long now = System.nanoTime();
+		jobs.values().removeIf(job -> job.isFinished() && now - job.getFinishedAt() > finishedJobTtlNanos);
+		List<SimulationJob> finished = jobs.values().stream()
+				.filter(SimulationJob::isFinished)
+				.sorted(Comparator.comparingLong(SimulationJob::getFinishedAt))
+				.toList();
+		for (int i = 0; i < finished.size() - maxFinishedJobs; i++) {
+			jobs.remove(finished.get(i).getId());
+		}
+	}
+
+	// Devuelve los resultados de un trabajo terminado.
+	private void result(HttpExchange exchange, SimulationJob job) throws IOException {
+		if (job.getStatus() == SimulationJob.Status.COMPLETED) {
+			send(exchange, 200, job.getResultJson());
+		} else {
+			sendError(exchange, 409, "El trabajo no tiene resultados (estado " + job.getStatus() + ")");
+		}
+	}
+
+	// Construye la configuración de la simulación a partir del cuerpo de la petición.
+	private SimulationConfig parseConfig(String body) {
+		Map<String, String> values = Json.parseObject(body);
+		int games = Integer.parseInt(values.getOrDefault("games", "1000"));
+		if (games <= 0 || games > MAX_GAMES_PER_JOB) {
+			throw new IllegalArgumentException("games debe estar entre 1 y " + MAX_GAMES_PER_JOB);
+		}
+		SimulationConfig config = values.containsKey("seed")
+				? new SimulationConfig(games, Long.parseLong(values.get("seed")))
+				: new SimulationConfig(games);
+		if (values.containsKey("mode")) {
+			config.setSamplingMode(SamplingMode.valueOf(values.get("mode").toUpperCase(Locale.ROOT)));
+		}
+		if (values.containsKey("replicates")) {
+			config.setReplicates(Integer.parseInt(values.get("replicates")));
+			if (config.getReplicates() <= 0) {
+				throw new IllegalArgumentException("replicates debe ser positivo");
+			}
+		}
+		int threads = Integer.parseInt(values.getOrDefault("threads", Integer.toString(workerThreads)));
+		config.setThreads(Math.max(1, Math.min(threads, workerThreads)));
+		config.setRetainMatches(false); // El servicio solo devuelve resultados agregados
+		return config;
+	}
+
+	// Tarea del ejecutor de trabajos; conserva el trabajo para poder retirarlo de la cola.
+	private final class JobTask implements Runnable {
+		private final SimulationJob job;
+
+		private JobTask(SimulationJob job) {
+			this.job = job;
+		}
+
+		@Override
+		public void run() {
+			SimulationService.this.run(job);
+		}
+	}
+
+	// Acción sobre un trabajo existente.
+	private interface JobAction {
+		void apply(SimulationJob job) throws IOException;
+	}
+
+	// Busca un trabajo y aplica la acción, o responde 404 si no existe.
+	private void withJob(HttpExchange exchange, String id, JobAction action) throws IOException {
+		SimulationJob job = jobs.get(id);
+		if (job == null) {
+			sendError(exchange, 404, "Trabajo no encontrado: " + id);
+		} else {
+			action.apply(job);
+		}
+	}
+
+	private static String readBody(HttpExchange exchange) throws IOException {
+		try (InputStream in = exchange.getRequestBody()) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+		send(exchange, status, new Json.ObjectBuilder().add("error", message).build());
+	}
+
+	private static void send(HttpExchange exchange, int status, String json) throws IOException {
+		byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+}
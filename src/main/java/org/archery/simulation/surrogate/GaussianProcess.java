@@ -0,0 +1,245 @@
+package org.archery.simulation.surrogate;
+
+import java.util.Arrays;
+
+import org.archery.simulation.model.Estimate;
+
+// Regresión por proceso gaussiano sobre el hipercubo unidad, con núcleo exponencial cuadrático
+// de una escala de longitud por dimensión (ARD) y media constante.
+//
+// El ruido de cada observación es conocido: es la varianza Monte Carlo del punto simulado (su
+// error estándar entre réplicas al cuadrado), así que el modelo no intenta interpolar ese ruido.
+// Los hiperparámetros (escalas de longitud y varianza de la señal) se ajustan maximizando la
+// verosimilitud marginal con una búsqueda por coordenadas en escala logarítmica, lo que basta para
+// los pocos hiperparámetros y las pocas decenas de puntos de un diseño. Una vez ajustado, cada
+// predicción cuesta O(n·d + n²) operaciones: microsegundos para los tamaños de diseño habituales.
+public class GaussianProcess {
+
+	private static final double JITTER = 1e-8; // Ruido mínimo relativo, para la estabilidad numérica
+	private static final double MIN_LOG_SCALE = Math.log(0.03); // Límites de las escalas de longitud
+	private static final double MAX_LOG_SCALE = Math.log(30);
+	private static final double MIN_LOG_VARIANCE = Math.log(1e-4); // Límites de la varianza de la señal
+	private static final double MAX_LOG_VARIANCE = Math.log(1e4);
+	private static final double INITIAL_STEP = 1.0; // Paso inicial de la búsqueda (en logaritmo)
+	private static final double MIN_STEP = 0.02; // Paso con el que termina la búsqueda
+	private static final int MAX_ITERATIONS = 500; // Evaluaciones máximas de la verosimilitud por paso
+
+	private final double[][] points; // Puntos observados en el hipercubo unidad
+	private final double[] noise; // Varianza del ruido de cada observación, en unidades estandarizadas
+	private final double[] centered; // Observaciones estandarizadas
+	private final double offset; // Media de las observaciones
+	private final double scale; // Desviación típica de las observaciones
+	private final double[] logScales; // Logaritmo de la escala de longitud de cada dimensión
+	private final double[] inverseScales; // Inversa de la escala de longitud de cada dimensión
+	private double logVariance; // Logaritmo de la varianza de la señal estandarizada
+	private double[][] cholesky; // Factor de Cholesky de la matriz de covarianzas de los datos
+	private double[] alpha; // Covarianzas^-1 · observaciones
+	private double logLikelihood; // Verosimilitud marginal (logaritmo) con los hiperparámetros ajustados
+
+	// Ajusta el proceso a unas observaciones.
+	// @param points Puntos observados en el hipercubo unidad.
+	// @param values Valor observado en cada punto.
+	// @param errors Error estándar de cada observación.
+	public GaussianProcess(double[][] points, double[] values, double[] errors) {
+		int n = points.length;
+		if (n < 2 || values.length != n || errors.length != n) {
+			throw new IllegalArgumentException("Se necesitan al menos dos observaciones con su error");
+		}
+		this.points = points.clone();
+		this.offset = Arrays.stream(values).average().orElse(0);
+		double variance = Arrays.stream(values).map(v -> (v - offset) * (v - offset)).sum() / (n - 1);
+		// Con observaciones casi constantes la escala la fija el ruido, para no dividir por cero
+		double noiseLevel = Arrays.stream(errors).map(e -> e * e).average().orElse(0);
+		this.scale = Math.sqrt(Math.max(variance, noiseLevel)) + Double.MIN_NORMAL;
+		this.centered = new double[n];
+		this.noise = new double[n];
+		for (int i = 0; i < n; i++) {
+			centered[i] = (values[i] - offset) / scale;
+			noise[i] = errors[i] * errors[i] / (scale * scale) + JITTER;
+		}
+		this.logScales = new double[points[0].length];
+		this.inverseScales = new double[logScales.length];
+		for (int k = 0; k < logScales.length; k++) {
+			set(k, Math.log(0.5));
+		}
+		this.logVariance = 0;
+		optimize();
+	}
+
+	// Predice el valor en un punto del hipercubo unidad.
+	// @return Media a posteriori y su desviación típica (la incertidumbre del modelo, sin el ruido Monte Carlo).
+	public Estimate predict(double[] point) {
+		int n = points.length;
+		double signal = Math.exp(logVariance);
+		double[] k = new double[n];
+		double mean = 0;
+		for (int i = 0; i < n; i++) {
+			k[i] = kernel(points[i], point, signal);
+			mean += k[i] * alpha[i];
+		}
+		// v = L^-1 k, de modo que la varianza a posteriori es signal - v·v
+		double reduction = 0;
+		for (int i = 0; i < n; i++) {
+			double sum = k[i];
+			double[] row = cholesky[i];
+			for (int j = 0; j < i; j++) {
+				sum -= row[j] * k[j];
+			}
+			k[i] = sum / row[i];
+			reduction += k[i] * k[i];
+		}
+		double variance = Math.max(signal - reduction, 0);
+		return new Estimate(offset + scale * mean, scale * Math.sqrt(variance));
+	}
+
+	// Error de validación cruzada dejando uno fuera, calculado de forma cerrada sobre el ajuste:
+	// raíz del error cuadrático medio al predecir cada observación sin ella.
+	public double leaveOneOutError() {
+		int n = points.length;
+		double[][] inverse = invert();
+		double sum = 0;
+		for (int i = 0; i < n; i++) {
+			double residual = alpha[i] / inverse[i][i];
+			sum += residual * residual;
+		}
+		return scale * Math.sqrt(sum / n);
+	}
+
+	// Escala de longitud ajustada de una dimensión, en unidades del intervalo del parámetro: cuanto
+	// menor, más influye el parámetro en la métrica.
+	public double getLengthScale(int dimension) {
+		return Math.exp(logScales[dimension]);
+	}
+
+	// Desviación típica de la señal ajustada, en las unidades de la métrica.
+	public double getSignalDeviation() {
+		return scale * Math.exp(logVariance / 2);
+	}
+
+	public double getLogLikelihood() {
+		return logLikelihood;
+	}
+
+	// Busca por coordenadas los hiperparámetros de mayor verosimilitud: prueba a subir y bajar
+	// cada uno un paso y reduce el paso a la mitad cuando ningún cambio mejora.
+	private void optimize() {
+		double best = evaluate();
+		int dimensions = logScales.length;
+		for (double step = INITIAL_STEP; step >= MIN_STEP; step /= 2) {
+			boolean improved = true;
+			for (int iteration = 0; improved && iteration < MAX_ITERATIONS; iteration++) {
+				improved = false;
+				for (int h = 0; h <= dimensions; h++) {
+					for (int direction = -1; direction <= 1; direction += 2) {
+						double previous = get(h);
+						set(h, previous + direction * step);
+						double candidate = get(h) == previous ? Double.NEGATIVE_INFINITY : evaluate();
+						if (candidate > best + 1e-9) {
+							best = candidate;
+							improved = true;
+						} else {
+							set(h, previous);
+						}
+					}
+				}
+			}
+		}
+		logLikelihood = best;
+		if (!factorize()) {
+			throw new IllegalStateException("La matriz de covarianzas del modelo sustituto no es definida positiva");
+		}
+	}
+
+	// Hiperparámetro h: las escalas de longitud y, en la última posición, la varianza de la señal.
+	private double get(int h) {
+		return h < logScales.length ? logScales[h] : logVariance;
+	}
+
+	private void set(int h, double value) {
+		if (h < logScales.length) {
+			logScales[h] = Math.min(Math.max(value, MIN_LOG_SCALE), MAX_LOG_SCALE);
+			inverseScales[h] = Math.exp(-logScales[h]);
+		} else {
+			logVariance = Math.min(Math.max(value, MIN_LOG_VARIANCE), MAX_LOG_VARIANCE);
+		}
+	}
+
+	// Logaritmo de la verosimilitud marginal con los hiperparámetros actuales.
+	private double evaluate() {
+		if (!factorize()) {
+			return Double.NEGATIVE_INFINITY;
+		}
+		double value = -0.5 * points.length * Math.log(2 * Math.PI);
+		for (int i = 0; i < points.length; i++) {
+			value -= 0.5 * centered[i] * alpha[i] + Math.log(cholesky[i][i]);
+		}
+		return value;
+	}
+
+	// Factoriza la matriz de covarianzas y resuelve alpha; devuelve false si no es definida positiva.
+	private boolean factorize() {
+		int n = points.length;
+		double signal = Math.exp(logVariance);
+		double[][] l = new double[n][];
+		for (int i = 0; i < n; i++) {
+			l[i] = new double[i + 1];
+			for (int j = 0; j <= i; j++) {
+				double sum = kernel(points[i], points[j], signal) + (i == j ? noise[i] : 0);
+				for (int k = 0; k < j; k++) {
+					sum -= l[i][k] * l[j][k];
+				}
+				if (i == j) {
+					if (sum <= 0) {
+						return false;
+					}
+					l[i][i] = Math.sqrt(sum);
+				} else {
+					l[i][j] = sum / l[j][j];
+				}
+			}
+		}
+		cholesky = l;
+		alpha = solve(centered);
+		return true;
+	}
+
+	// Resuelve (L·Lᵀ)·x = b.
+	private double[] solve(double[] b) {
+		int n = b.length;
+		double[] x = b.clone();
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < i; j++) {
+				x[i] -= cholesky[i][j] * x[j];
+			}
+			x[i] /= cholesky[i][i];
+		}
+		for (int i = n - 1; i >= 0; i--) {
+			for (int j = i + 1; j < n; j++) {
+				x[i] -= cholesky[j][i] * x[j];
+			}
+			x[i] /= cholesky[i][i];
+		}
+		return x;
+	}
+
+	// Inversa de la matriz de covarianzas a partir de su factor de Cholesky.
+	private double[][] invert() {
+		int n = points.length;
+		double[][] inverse = new double[n][];
+		for (int i = 0; i < n; i++) {
+			double[] unit = new double[n];
+			unit[i] = 1;
+			inverse[i] = solve(unit);
+		}
+		return inverse;
+	}
+
+	private double kernel(double[] a, double[] b, double signal) {
+		double distance = 0;
+		for (int k = 0; k < a.length; k++) {
+			double delta = (a[k] - b[k]) * inverseScales[k];
+			distance += delta * delta;
+		}
+		return signal * Math.exp(-0.5 * distance);
+	}
+}
@@ -0,0 +1,242 @@
+package org.archery.simulation.surrogate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.archery.simulation.model.RandomSource;
+import org.archery.simulation.model.RuleParameters;
+
+// Dominio del modelo sustituto: los parámetros que varían y el intervalo de cada uno; el resto
+// conserva su valor original. Convierte entre los valores de los parámetros, el hipercubo unidad
+// en el que trabaja la regresión y las reglas que recibe la simulación.
+public class SurrogateDomain {
+
+	private static final int LHS_CANDIDATES = 32; // Diseños candidatos entre los que se elige el más repartido
+
+	private final SurrogateParameter[] parameters; // Parámetros que varían
+	private final double[] lower; // Límite inferior de cada parámetro
+	private final double[] upper; // Límite superior de cada parámetro
+
+	// @param parameters Parámetros que varían, sin repetir.
+	// @param lower Límite inferior de cada parámetro.
+	// @param upper Límite superior de cada parámetro.
+	public SurrogateDomain(List<SurrogateParameter> parameters, double[] lower, double[] upper) {
+		if (parameters.isEmpty() || parameters.size() != lower.length || parameters.size() != upper.length) {
+			throw new IllegalArgumentException("Cada parámetro del dominio necesita sus dos límites");
+		}
+		if (parameters.stream().distinct().count() != parameters.size()) {
+			throw new IllegalArgumentException("El dominio repite parámetros");
+		}
+		this.parameters = parameters.toArray(SurrogateParameter[]::new);
+		this.lower = lower.clone();
+		this.upper = upper.clone();
+		double[] lowest = new double[lower.length];
+		double[] highest = new double[lower.length];
+		for (int i = 0; i < lower.length; i++) {
+			if (!(lower[i] < upper[i])) {
+				throw new IllegalArgumentException("Intervalo vacío para " + this.parameters[i].getLabel());
+			}
+			// Esquinas extremas: todas las precisiones y la resistencia mínima al máximo (y al revés)
+			boolean high = this.parameters[i] != SurrogateParameter.RESISTANCE_MAX;
+			lowest[i] = high ? lower[i] : upper[i];
+			highest[i] = high ? upper[i] : lower[i];
+		}
+		try {
+			toRules(lowest);
+			toRules(highest);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("El dominio incluye reglas no válidas: " + e.getMessage(), e);
+		}
+	}
+
+	// Crea un dominio a partir de su descripción, p. ej. "female-central=0.2:0.4,resistance-min=20:35".
+	public static SurrogateDomain parse(String spec) {
+		List<SurrogateParameter> parameters = new ArrayList<>();
+		List<double[]> bounds = new ArrayList<>();
+		for (String entry : spec.split(",")) {
+			String[] parts = entry.split("[=:]");
+			if (parts.length != 3) {
+				throw new IllegalArgumentException("Se esperaba parámetro=mínimo:máximo: " + entry);
+			}
+			parameters.add(SurrogateParameter.parse(parts[0]));
+			bounds.add(new double[] {Double.parseDouble(parts[1]), Double.parseDouble(parts[2])});
+		}
+		return new SurrogateDomain(parameters,
+				bounds.stream().mapToDouble(bound -> bound[0]).toArray(),
+				bounds.stream().mapToDouble(bound -> bound[1]).toArray());
+	}
+
+	// Obtiene el número de parámetros que varían.
+	public int getDimensions() {
+		return parameters.length;
+	}
+
+	public SurrogateParameter getParameter(int dimension) {
+		return parameters[dimension];
+	}
+
+	// Obtiene el punto de las reglas originales.
+	public double[] nominal() {
+		double[] point = new double[parameters.length];
+		for (int i = 0; i < parameters.length; i++) {
+			point[i] = parameters[i].getValue(RuleParameters.NOMINAL);
+		}
+		return point;
+	}
+
+	// Obtiene un punto a partir de una consulta como "female-central=0.25,resistance-min=30";
+	// los parámetros que no aparecen conservan su valor original. Se admiten puntos fuera del
+	// dominio, aunque allí el modelo sustituto será poco fiable.
+	public double[] parsePoint(String query) {
+		double[] point = nominal();
+		for (String entry : query.split(",")) {
+			String[] parts = entry.split("=");
+			if (parts.length != 2) {
+				throw new IllegalArgumentException("Se esperaba parámetro=valor: " + entry);
+			}
+			SurrogateParameter parameter = SurrogateParameter.parse(parts[0]);
+			point[indexOf(parameter)] = Double.parseDouble(parts[1]);
+		}
+		return point;
+	}
+
+	// Ajusta un punto a los valores que admite la simulación (resistencias enteras).
+	public double[] snap(double[] point) {
+		double[] snapped = point.clone();
+		for (int i = 0; i < parameters.length; i++) {
+			if (!parameters[i].isPrecision()) {
+				snapped[i] = Math.round(point[i]);
+			}
+		}
+		return snapped;
+	}
+
+	// Obtiene las reglas de la simulación en un punto.
+	public RuleParameters toRules(double[] point) {
+		RuleParameters nominal = RuleParameters.NOMINAL;
+		double[][] precisions = {nominal.getPrecisions(0), nominal.getPrecisions(1)};
+		int minResistance = nominal.getMinResistance();
+		int maxResistance = nominal.getMaxResistance();
+		for (int i = 0; i < parameters.length; i++) {
+			SurrogateParameter parameter = parameters[i];
+			switch (parameter) {
+				case RESISTANCE_MIN -> minResistance = (int) Math.round(point[i]);
+				case RESISTANCE_MAX -> maxResistance = (int) Math.round(point[i]);
+				default -> precisions[parameter.getGender()][parameter.getShot().ordinal()] = point[i];
+			}
+		}
+		return new RuleParameters(precisions[0], precisions[1], minResistance, maxResistance);
+	}
+
+	// Lleva un punto al hipercubo unidad.
+	public double[] toUnit(double[] point) {
+		double[] unit = new double[parameters.length];
+		for (int i = 0; i < parameters.length; i++) {
+			unit[i] = (point[i] - lower[i]) / (upper[i] - lower[i]);
+		}
+		return unit;
+	}
+
+	// Lleva un punto del hipercubo unidad a los valores de los parámetros.
+	public double[] fromUnit(double[] unit) {
+		double[] point = new double[parameters.length];
+		for (int i = 0; i < parameters.length; i++) {
+			point[i] = lower[i] + unit[i] * (upper[i] - lower[i]);
+		}
+		return point;
+	}
+
+	// Genera un diseño por hipercubo latino en el hipercubo unidad: cada parámetro se divide en
+	// tantos estratos como puntos y cada estrato recibe exactamente un punto. De varios diseños
+	// candidatos se queda con el de mayor distancia mínima entre puntos (criterio maximin).
+	// @param points Número de puntos del diseño.
+	// @param rng Fuente aleatoria del diseño.
+	public double[][] latinHypercube(int points, RandomSource rng) {
+		if (points < 2) {
+			throw new IllegalArgumentException("El diseño necesita al menos dos puntos");
+		}
+		double[][] best = null;
+		double bestDistance = -1;
+		for (int candidate = 0; candidate < LHS_CANDIDATES; candidate++) {
+			double[][] design = new double[points][parameters.length];
+			for (int dimension = 0; dimension < parameters.length; dimension++) {
+				int[] strata = permutation(points, rng);
+				for (int p = 0; p < points; p++) {
+					design[p][dimension] = (strata[p] + rng.nextDouble()) / points;
+				}
+			}
+			double distance = minimumDistance(design);
+			if (distance > bestDistance) {
+				best = design;
+				bestDistance = distance;
+			}
+		}
+		return best;
+	}
+
+	// Describe un punto con el nombre y el valor de cada parámetro.
+	public String describe(double[] point) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < parameters.length; i++) {
+			text.append(i == 0 ? "" : ", ").append(parameters[i].getLabel()).append(" = ")
+					.append(parameters[i].isPrecision() ? String.format(Locale.ROOT, "%.4f", point[i])
+							: Long.toString(Math.round(point[i])));
+		}
+		return text.toString();
+	}
+
+	// Describe el dominio con el intervalo de cada parámetro.
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < parameters.length; i++) {
+			text.append(i == 0 ? "" : ", ").append(parameters[i].getLabel())
+					.append(String.format(Locale.ROOT, " [%s, %s]", format(lower[i]), format(upper[i])));
+		}
+		return text.toString();
+	}
+
+	private int indexOf(SurrogateParameter parameter) {
+		for (int i = 0; i < parameters.length; i++) {
+			if (parameters[i] == parameter) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("El parámetro " + parameter.getLabel() + " no forma parte del dominio");
+	}
+
+	// Permutación aleatoria de 0..n-1 (Fisher-Yates).
+	private static int[] permutation(int n, RandomSource rng) {
+		int[] values = new int[n];
+		for (int i = 0; i < n; i++) {
+			values[i] = i;
+		}
+		for (int i = n - 1; i > 0; i--) {
+			int j = rng.nextInt(0, i);
+			int swap = values[i];
+			values[i] = values[j];
+			values[j] = swap;
+		}
+		return values;
+	}
+
+	private static double minimumDistance(double[][] design) {
+		double minimum = Double.POSITIVE_INFINITY;
+		for (int a = 0; a < design.length; a++) {
+			for (int b = a + 1; b < design.length; b++) {
+				double distance = 0;
+				for (int k = 0; k < design[a].length; k++) {
+					double delta = design[a][k] - design[b][k];
+					distance += delta * delta;
+				}
+				minimum = Math.min(minimum, distance);
+			}
+		}
+		return minimum;
+	}
+
+	private static String format(double value) {
+		return value == Math.rint(value) ? Long.toString((long) value) : Double.toString(value);
+	}
+}
@@ -0,0 +1,155 @@
+package org.archery.simulation.surrogate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.archery.simulation.cache.ResultCache;
+import org.archery.simulation.model.ConvergenceEstimator.Metric;
+import org.archery.simulation.model.Estimate;
+import org.archery.simulation.model.Game;
+import org.archery.simulation.model.ProgressTracker;
+import org.archery.simulation.model.PseudoRandomSource;
+import org.archery.simulation.model.SimulationConfig;
+import org.archery.simulation.model.SimulationResult;
+
+// Modelo sustituto de la simulación para consultas instantáneas sobre los parámetros de las reglas.
+//
+// Simula un diseño por hipercubo latino del dominio y ajusta un proceso gaussiano por métrica de
+// ConvergenceEstimator. Todos los puntos usan la misma semilla (números aleatorios comunes), de modo
+// que las diferencias entre puntos se deben a las reglas y no al ruido de cada simulación. Una
+// consulta se responde con el modelo en microsegundos salvo que su incertidumbre supere varias veces
+// el error Monte Carlo típico de una simulación del diseño; entonces se simula el punto, se agrega
+// al diseño y se reajusta el modelo, que a partir de ahí es más preciso en esa zona.
+public class SurrogateModel {
+
+	public static final double Z_95 = 1.96; // Cuantil del intervalo del 95 %
+	public static final int DEFAULT_POINTS_PER_DIMENSION = 10; // Puntos del diseño por parámetro
+	public static final double DEFAULT_UNCERTAINTY_RATIO = 2.0; // Incertidumbre admitida frente al error Monte Carlo
+
+	private final SurrogateDomain domain; // Parámetros que varían y sus intervalos
+	private final SimulationConfig config; // Configuración de cada simulación (juegos, semilla, hilos...)
+	private final ResultCache cache; // Caché de resultados, o null para simular siempre
+	private final double uncertaintyRatio; // Incertidumbre máxima del modelo, en errores Monte Carlo típicos
+	private final List<double[]> design; // Puntos simulados
+	private final List<Map<Metric, Estimate>> observations; // Resultado de cada punto simulado
+	private final Map<Metric, GaussianProcess> models; // Proceso gaussiano de cada métrica
+	private final Map<Metric, Double> simulationErrors; // Error Monte Carlo típico (mediana) de cada métrica
+	private final int designSize; // Puntos del diseño inicial
+
+	// Simula el diseño inicial y ajusta el modelo.
+	// @param domain Parámetros que varían y sus intervalos.
+	// @param config Configuración de cada simulación; sus reglas se sustituyen por las de cada punto.
+	// @param designPoints Puntos del diseño inicial.
+	// @param cache Caché de resultados, o null para simular siempre.
+	// @param uncertaintyRatio Desviación típica máxima del modelo, en errores Monte Carlo típicos, por
+	//        encima de la cual una consulta se simula.
+	public SurrogateModel(SurrogateDomain domain, SimulationConfig config, int designPoints, ResultCache cache,
+			double uncertaintyRatio) {
+		if (!(uncertaintyRatio > 0)) {
+			throw new IllegalArgumentException("La incertidumbre admitida debe ser positiva");
+		}
+		this.domain = domain;
+		this.config = config;
+		this.cache = cache;
+		this.uncertaintyRatio = uncertaintyRatio;
+		this.design = new ArrayList<>();
+		this.observations = new ArrayList<>();
+		this.models = new EnumMap<>(Metric.class);
+		this.simulationErrors = new EnumMap<>(Metric.class);
+		for (double[] unit : domain.latinHypercube(designPoints, new PseudoRandomSource(config.getSeed()))) {
+			add(domain.snap(domain.fromUnit(unit)));
+		}
+		this.designSize = designPoints;
+		fit();
+	}
+
+	// Predice una métrica en un punto con el modelo, sin simular.
+	// @return Media a posteriori y su desviación típica.
+	public Estimate predict(Metric metric, double[] point) {
+		return models.get(metric).predict(domain.toUnit(point));
+	}
+
+	// Responde a una consulta: con el modelo si es lo bastante preciso y, si no, simulando el punto.
+	// @param point Valor de cada parámetro del dominio; puede quedar fuera de los intervalos, pero
+	//        debe corresponder a unas reglas válidas.
+	public SurrogatePrediction query(double[] point) {
+		long start = System.nanoTime();
+		domain.toRules(point); // Rechaza las reglas imposibles antes de predecir
+		Map<Metric, Estimate> estimates = new EnumMap<>(Metric.class);
+		boolean uncertain = false;
+		for (Metric metric : Metric.values()) {
+			Estimate estimate = predict(metric, point);
+			estimates.put(metric, estimate);
+			uncertain |= estimate.getStandardError() > uncertaintyRatio * simulationErrors.get(metric);
+		}
+		if (!uncertain) {
+			return new SurrogatePrediction(point, estimates, false, System.nanoTime() - start);
+		}
+		double[] snapped = domain.snap(point);
+		Map<Metric, Estimate> simulated = add(snapped);
+		fit();
+		return new SurrogatePrediction(snapped, simulated, true, System.nanoTime() - start);
+	}
+
+	// Obtiene el número de puntos simulados, incluidos los agregados por las consultas.
+	public int getSimulatedPoints() {
+		return design.size();
+	}
+
+	// Informe del modelo: dominio, diseño y, por métrica, el error de validación cruzada frente al
+	// error Monte Carlo típico y la escala de longitud de cada parámetro (menor = más influyente).
+	public String report() {
+		StringBuilder report = new StringBuilder();
+		report.append("Modelo sustituto (proceso gaussiano) sobre ").append(domain).append(System.lineSeparator());
+		report.append(String.format(Locale.ROOT, "  Diseño: %d puntos por hipercubo latino%s, %d juegos por punto%n",
+				designSize, design.size() > designSize ? " + " + (design.size() - designSize) + " simulados en consultas" : "",
+				config.getNumberOfGames()));
+		for (Metric metric : Metric.values()) {
+			GaussianProcess model = models.get(metric);
+			report.append(String.format(Locale.ROOT,
+					"  %s : validación cruzada %.4f (error Monte Carlo típico %.4f), desviación de la señal %.4f%n",
+					metric.getLabel(), model.leaveOneOutError(), simulationErrors.get(metric), model.getSignalDeviation()));
+			report.append("    Escalas de longitud:");
+			for (int dimension = 0; dimension < domain.getDimensions(); dimension++) {
+				report.append(String.format(Locale.ROOT, "%s %s = %.2f", dimension == 0 ? "" : ",",
+						domain.getParameter(dimension).getLabel(), model.getLengthScale(dimension)));
+			}
+			report.append(System.lineSeparator());
+		}
+		return report.toString();
+	}
+
+	// Simula un punto y lo agrega al diseño.
+	private Map<Metric, Estimate> add(double[] point) {
+		SimulationConfig pointConfig = config.withNumberOfGames(config.getNumberOfGames());
+		pointConfig.setRetainMatches(false); // El modelo solo usa las métricas agregadas
+		pointConfig.setRules(domain.toRules(point));
+		SimulationResult result = cache == null
+				? new Game(pointConfig).getResult()
+				: cache.obtain(pointConfig, null, new ProgressTracker());
+		Map<Metric, Estimate> observation = new EnumMap<>(Metric.class);
+		for (Metric metric : Metric.values()) {
+			observation.put(metric, result.estimate(metric));
+		}
+		design.add(point);
+		observations.add(observation);
+		return observation;
+	}
+
+	// Ajusta un proceso gaussiano por métrica a todos los puntos simulados.
+	private void fit() {
+		double[][] units = design.stream().map(domain::toUnit).toArray(double[][]::new);
+		for (Metric metric : Metric.values()) {
+			double[] values = observations.stream().mapToDouble(o -> o.get(metric).getMean()).toArray();
+			double[] errors = observations.stream().mapToDouble(o -> o.get(metric).getStandardError()).toArray();
+			models.put(metric, new GaussianProcess(units, values, errors));
+			double[] sorted = errors.clone();
+			Arrays.sort(sorted);
+			simulationErrors.put(metric, sorted[sorted.length / 2]);
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package org.archery.simulation.surrogate;
+
+import java.util.Locale;
+
+import org.archery.simulation.model.Gender;
+import org.archery.simulation.model.RuleParameters;
+import org.archery.simulation.model.Shot;
+
+// Parámetros de las reglas que puede variar el modelo sustituto: las precisiones de Gender que no
+// son residuo (las mismas que deriva SensitivityEstimator) y los extremos de la resistencia inicial.
+public enum SurrogateParameter {
+	MALE_CENTRAL(0, Shot.CENTRAL),
+	MALE_INTERMEDIATE(0, Shot.INTERMEDIATE),
+	MALE_OUTSIDE(0, Shot.OUTSIDE),
+	FEMALE_CENTRAL(1, Shot.CENTRAL),
+	FEMALE_INTERMEDIATE(1, Shot.INTERMEDIATE),
+	FEMALE_OUTSIDE(1, Shot.OUTSIDE),
+	RESISTANCE_MIN(-1, null),
+	RESISTANCE_MAX(-1, null);
+
+	private final int gender; // Valor de género de Gender, o -1 si no es una precisión
+	private final Shot shot; // Impacto cuya precisión es el parámetro, o null
+
+	private SurrogateParameter(int gender, Shot shot) {
+		this.gender = gender;
+		this.shot = shot;
+	}
+
+	// Obtiene el parámetro a partir de su nombre en la línea de órdenes (p. ej. "female-central").
+	public static SurrogateParameter parse(String name) {
+		return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+	}
+
+	// Indica si el parámetro es una precisión (y no un extremo de la resistencia).
+	public boolean isPrecision() {
+		return shot != null;
+	}
+
+	public int getGender() {
+		return gender;
+	}
+
+	public Shot getShot() {
+		return shot;
+	}
+
+	// Valor del parámetro en unas reglas.
+	public double getValue(RuleParameters rules) {
+		return switch (this) {
+			case RESISTANCE_MIN -> rules.getMinResistance();
+			case RESISTANCE_MAX -> rules.getMaxResistance();
+			default -> rules.getPrecision(gender, shot);
+		};
+	}
+
+	// Nombre legible del parámetro.
+	public String getLabel() {
+		return switch (this) {
+			case RESISTANCE_MIN -> "Resistencia inicial mínima";
+			case RESISTANCE_MAX -> "Resistencia inicial máxima";
+			default -> new Gender(gender).getName() + " " + shot.name();
+		};
+	}
+}
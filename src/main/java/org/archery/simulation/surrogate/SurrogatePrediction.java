@@ -0,0 +1,45 @@
+package org.archery.simulation.surrogate;
+
+import java.util.Locale;
+import java.util.Map;
+
+import org.archery.simulation.model.ConvergenceEstimator;
+import org.archery.simulation.model.Estimate;
+
+import lombok.Getter;
+
+// Respuesta a una consulta del modelo sustituto: la estimación de cada métrica en un punto y si
+// procede del modelo o de una simulación real (cuando el modelo no era lo bastante preciso).
+@Getter
+public class SurrogatePrediction {
+
+	private final double[] point; // Punto consultado (ajustado a resistencias enteras si se simuló)
+	private final Map<ConvergenceEstimator.Metric, Estimate> estimates; // Estimación de cada métrica
+	private final boolean simulated; // Si la respuesta procede de una simulación real
+	private final long nanos; // Tiempo empleado en responder
+
+	public SurrogatePrediction(double[] point, Map<ConvergenceEstimator.Metric, Estimate> estimates, boolean simulated,
+			long nanos) {
+		this.point = point;
+		this.estimates = estimates;
+		this.simulated = simulated;
+		this.nanos = nanos;
+	}
+
+	// Describe la respuesta con un intervalo del 95 % para cada métrica.
+	// @param domain Dominio del modelo, para describir el punto.
+	public String report(SurrogateDomain domain) {
+		StringBuilder report = new StringBuilder(String.format(Locale.ROOT, "%s (%s, %s)%n", domain.describe(point),
+				simulated ? "simulado" : "modelo sustituto",
+				nanos < 1_000_000 ? String.format(Locale.ROOT, "%.1f µs", nanos / 1e3)
+						: nanos < 1_000_000_000 ? String.format(Locale.ROOT, "%.1f ms", nanos / 1e6)
+								: String.format(Locale.ROOT, "%.2f s", nanos / 1e9)));
+		for (Map.Entry<ConvergenceEstimator.Metric, Estimate> entry : estimates.entrySet()) {
+			Estimate estimate = entry.getValue();
+			double halfWidth = SurrogateModel.Z_95 * estimate.getStandardError();
+			report.append(String.format(Locale.ROOT, "  %s : %.4f (%.4f - %.4f)%n", entry.getKey().getLabel(),
+					estimate.getMean(), estimate.getMean() - halfWidth, estimate.getMean() + halfWidth));
+		}
+		return report.toString();
+	}
+}
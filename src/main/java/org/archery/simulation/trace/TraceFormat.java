@@ -0,0 +1,39 @@
+package org.archery.simulation.trace;
+
+// Formato binario de las trazas de simulación.
+//
+// La traza es un flujo continuo de bits repartido en segmentos de tamaño fijo
+// (segment-000000.trace, segment-000001.trace, ...). Cada segmento empieza con una cabecera de
+// 16 bytes (número mágico, versión y número de bits válidos) seguida de palabras de 64 bits que
+// se rellenan desde el bit menos significativo.
+//
+// Cada evento empieza con un prefijo: un bit 0 indica una flecha normal, seguida de 2 bits con el
+// tipo de impacto (Shot.ordinal()); un bit 1 va seguido de 3 bits con la etiqueta del evento.
+final class TraceFormat {
+
+	static final int MAGIC = 0x41545243; // "ATRC"
+	static final int VERSION = 1;
+	static final int HEADER_BYTES = 16; // Número mágico, versión y bits válidos
+	static final String SEGMENT_PATTERN = "segment-%06d.trace";
+
+	static final int SHOT_BITS = 2; // Tipo de impacto
+	static final int TAG_BITS = 3; // Etiqueta de los eventos distintos de una flecha
+	static final int ARCHER_BITS = 4; // Identificador de arquero (1-10)
+	static final int LUCK_BITS = 8; // Suerte cuantificada en [1, 3)
+	static final int GAME_INDEX_BITS = 32;
+	static final int TEAM_SCORE_BITS = 16;
+	static final int ROUNDS_BITS = 4;
+	static final int ARCHERS_PER_GAME = 10;
+
+	// Etiquetas de los eventos.
+	static final int TAG_FATIGUE = 0; // + 1 bit (fatiga - 1)
+	static final int TAG_LUCK = 1; // + 8 bits de suerte cuantificada
+	static final int TAG_RANDOM = 2; // + arquero + impacto del disparo aleatorio
+	static final int TAG_EXTRA = 3; // + arquero + impacto del lanzamiento extra
+	static final int TAG_TIEBREAK = 4; // + arquero + impacto del lanzamiento de desempate
+	static final int TAG_GAME_START = 5; // + índice del juego
+	static final int TAG_GAME_END = 6; // + puntuaciones, rondas ganadas, géneros y género ganador
+
+	private TraceFormat() {
+	}
+}
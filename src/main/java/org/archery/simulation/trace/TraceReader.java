@@ -0,0 +1,95 @@
+package org.archery.simulation.trace;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Lee el flujo de bits de una traza escrita por TraceRecorder, recorriendo sus segmentos en orden.
+public class TraceReader implements Closeable {
+
+	private final Path directory; // Directorio de los segmentos
+	private int segment; // Número del siguiente segmento a abrir
+	private ByteBuffer buffer; // Vista en memoria del segmento actual
+	private long remaining; // Bits válidos pendientes en el segmento actual
+	private long word; // Palabra en curso
+	private int available; // Bits pendientes en la palabra en curso
+
+	// @param directory Directorio con los segmentos de una traza.
+	public TraceReader(Path directory) throws IOException {
+		this.directory = directory;
+		openNextSegment();
+	}
+
+	// Indica si quedan bits por leer.
+	public boolean hasMore() throws IOException {
+		while (remaining == 0) {
+			if (!openNextSegment()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// Lee un campo de bits (como máximo 63).
+	// @throws IOException si la traza termina antes de completar el campo.
+	public long read(int bits) throws IOException {
+		long value = 0;
+		int filled = 0;
+		while (filled < bits) {
+			if (available == 0) {
+				if (!hasMore()) {
+					throw new IOException("Traza truncada en " + directory);
+				}
+				word = buffer.getLong();
+				available = (int) Math.min(Long.SIZE, remaining);
+				remaining -= available;
+			}
+			int take = Math.min(bits - filled, available);
+			value |= (word & ((1L << take) - 1)) << filled;
+			word >>>= take;
+			available -= take;
+			filled += take;
+		}
+		return value;
+	}
+
+	// Lee un campo de bits como entero.
+	public int readInt(int bits) throws IOException {
+		return (int) read(bits);
+	}
+
+	// Indica si quedan bits en la palabra en curso o en los segmentos.
+	boolean atEnd() throws IOException {
+		return available == 0 && !hasMore();
+	}
+
+	@Override
+	public void close() {
+		buffer = null;
+	}
+
+	// Abre el siguiente segmento, si existe, y valida su cabecera.
+	private boolean openNextSegment() throws IOException {
+		Path file = directory.resolve(String.format(TraceFormat.SEGMENT_PATTERN, segment));
+		if (!Files.exists(file)) {
+			return false;
+		}
+		segment++;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()); // Sigue válido tras cerrar
+		}
+		if (buffer.remaining() < TraceFormat.HEADER_BYTES || buffer.getInt() != TraceFormat.MAGIC) {
+			throw new IOException("No es un segmento de traza: " + file);
+		}
+		int version = buffer.getInt();
+		if (version != TraceFormat.VERSION) {
+			throw new IOException("Versión de traza no soportada (" + version + "): " + file);
+		}
+		remaining = buffer.getLong();
+		return true;
+	}
+}
@@ -0,0 +1,173 @@
+package org.archery.simulation.trace;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.archery.simulation.model.Archer;
+import org.archery.simulation.model.Match;
+import org.archery.simulation.model.Shot;
+import org.archery.simulation.model.ShotKind;
+import org.archery.simulation.model.SimulationListener;
+import org.archery.simulation.model.Team;
+
+// Observador que graba cada evento de la simulación en una traza binaria compacta
+// (ver TraceFormat): una flecha ocupa 3 bits. Escribe sobre segmentos de fichero mapeados en
+// memoria, de modo que grabar un evento solo cuesta unas operaciones de bits y, cada 64 bits,
+// una escritura en memoria. Está confinado al hilo que simula su bloque de juegos.
+public class TraceRecorder implements SimulationListener {
+
+	public static final int DEFAULT_SEGMENT_BYTES = 8 << 20; // 8 MiB por segmento
+
+	private final Path directory; // Directorio de los segmentos
+	private final int segmentBytes; // Tamaño de cada segmento
+	private FileChannel channel; // Segmento actual
+	private MappedByteBuffer buffer; // Vista en memoria del segmento actual
+	private int segment; // Número del segmento actual
+	private long accumulator; // Bits pendientes de escribir
+	private int pending; // Número de bits pendientes en el acumulador
+
+	// @param directory Directorio donde se escriben los segmentos; se crea si no existe.
+	// @param segmentBytes Tamaño de cada segmento en bytes.
+	public TraceRecorder(Path directory, int segmentBytes) {
+		if (segmentBytes < TraceFormat.HEADER_BYTES + Long.BYTES) {
+			throw new IllegalArgumentException("Segmento demasiado pequeño: " + segmentBytes);
+		}
+		this.directory = directory;
+		this.segmentBytes = segmentBytes & ~(Long.BYTES - 1); // Múltiplo de 8 bytes
+		try {
+			Files.createDirectories(directory);
+			openSegment(0);
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo crear la traza en " + directory, e);
+		}
+	}
+
+	// Crea una fábrica que graba cada bloque de juegos en un subdirectorio games-<primer juego>.
+	// @param directory Directorio raíz de la traza.
+	public static SimulationListener.Factory factory(Path directory) {
+		return firstGame -> new TraceRecorder(directory.resolve(String.format("games-%010d", firstGame)),
+				DEFAULT_SEGMENT_BYTES);
+	}
+
+	@Override
+	public void onGameStart(int gameIndex) {
+		writeTag(TraceFormat.TAG_GAME_START);
+		write(gameIndex, TraceFormat.GAME_INDEX_BITS);
+	}
+
+	@Override
+	public void onShot(Archer archer, Shot shot, ShotKind kind) {
+		if (kind == ShotKind.ARROW) {
+			write(shot.ordinal() << 1, 1 + TraceFormat.SHOT_BITS); // Prefijo 0 + impacto
+			return;
+		}
+		writeTag(switch (kind) {
+			case RANDOM -> TraceFormat.TAG_RANDOM;
+			case EXTRA -> TraceFormat.TAG_EXTRA;
+			default -> TraceFormat.TAG_TIEBREAK;
+		});
+		write(archer.getArcherId(), TraceFormat.ARCHER_BITS);
+		write(shot.ordinal(), TraceFormat.SHOT_BITS);
+	}
+
+	@Override
+	public void onFatigue(Archer archer, int fatigue) {
+		writeTag(TraceFormat.TAG_FATIGUE);
+		write(fatigue - 1, 1);
+	}
+
+	@Override
+	public void onLuck(Archer archer, double luck) {
+		writeTag(TraceFormat.TAG_LUCK);
+		int quantized = (int) ((luck - 1) / 2 * (1 << TraceFormat.LUCK_BITS));
+		write(Math.min(quantized, (1 << TraceFormat.LUCK_BITS) - 1), TraceFormat.LUCK_BITS);
+	}
+
+	@Override
+	public void onGameEnd(int gameIndex, Match match) {
+		writeTag(TraceFormat.TAG_GAME_END);
+		for (Team team : match.getTeams()) {
+			write(team.getScore(), TraceFormat.TEAM_SCORE_BITS);
+			write(team.getRoundsWon(), TraceFormat.ROUNDS_BITS);
+		}
+		for (Team team : match.getTeams()) {
+			for (Archer archer : team.getArchers()) {
+				write("Hombre".equals(archer.getGender().getName()) ? 1 : 0, 1);
+			}
+		}
+		write("Hombre".equals(match.getWinnerGender().getName()) ? 1 : 0, 1);
+	}
+
+	@Override
+	public void close() {
+		if (channel == null) {
+			return;
+		}
+		try {
+			if (pending > 0) {
+				putWord(accumulator); // Última palabra incompleta; puede abrir un segmento nuevo si el actual está lleno
+			}
+			// Bits válidos del segmento donde ha quedado la última palabra, sin el relleno de esa palabra
+			long validBits = (long) (buffer.position() - TraceFormat.HEADER_BYTES) * Byte.SIZE
+					- (pending > 0 ? Long.SIZE - pending : 0);
+			buffer.putLong(8, validBits);
+			int used = buffer.position();
+			buffer.force();
+			channel.truncate(used); // Elimina el espacio reservado que no se usó
+			channel.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo cerrar la traza en " + directory, e);
+		} finally {
+			channel = null;
+			buffer = null;
+		}
+	}
+
+	private void writeTag(int tag) {
+		write(1 | tag << 1, 1 + TraceFormat.TAG_BITS); // Prefijo 1 + etiqueta
+	}
+
+	// Agrega los bits menos significativos de value al flujo (como máximo 63 bits).
+	private void write(long value, int bits) {
+		value &= (1L << bits) - 1;
+		accumulator |= value << pending;
+		if (pending + bits >= Long.SIZE) {
+			putWord(accumulator);
+			int consumed = Long.SIZE - pending;
+			accumulator = value >>> consumed;
+			pending = pending + bits - Long.SIZE;
+		} else {
+			pending += bits;
+		}
+	}
+
+	// Escribe una palabra completa, pasando al siguiente segmento si el actual está lleno.
+	private void putWord(long word) {
+		if (buffer.remaining() < Long.BYTES) {
+			try {
+				buffer.putLong(8, (long) (buffer.position() - TraceFormat.HEADER_BYTES) * Byte.SIZE);
+				channel.close();
+				openSegment(segment + 1);
+			} catch (IOException e) {
+				throw new UncheckedIOException("No se pudo crear un segmento de traza en " + directory, e);
+			}
+		}
+		buffer.putLong(word);
+	}
+
+	private void openSegment(int number) throws IOException {
+		segment = number;
+		channel = FileChannel.open(directory.resolve(String.format(TraceFormat.SEGMENT_PATTERN, number)),
+				StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+		buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+		buffer.putInt(TraceFormat.MAGIC);
+		buffer.putInt(TraceFormat.VERSION);
+		buffer.putLong(0); // Bits válidos, se completan al cerrar el segmento
+	}
+}
@@ -0,0 +1,220 @@
+package org.archery.simulation.trace;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.archery.simulation.model.Shot;
+
+import lombok.Getter;
+
+// Reproduce de forma determinista los partidos grabados en una traza sin volver a sortear nada:
+// reconstruye las rondas a partir de los impactos y aplica las mismas reglas que Game y Match
+// (arquero ganador de cada ronda con desempate, equipo ganador de la ronda, disparos aleatorios
+// y extra, y arquero ganador del partido). Cada partido reproducido se compara con el resumen
+// grabado al final del juego.
+@Getter
+public class TraceReplayer {
+
+	private static final int TEAM_SIZE = TraceFormat.ARCHERS_PER_GAME / 2;
+	private static final Shot[] SHOTS = Shot.values();
+
+	private long games; // Partidos reproducidos
+	private long mismatches; // Partidos cuya reproducción no coincide con el resumen grabado
+	private long arrows; // Flechas normales leídas
+	private long team1Score; // Puntuación total reproducida del equipo 1
+	private long team2Score; // Puntuación total reproducida del equipo 2
+	private long maleVictories; // Partidos ganados por un arquero hombre
+	private long femaleVictories; // Partidos ganados por una arquera mujer
+	private final List<String> errors = new ArrayList<>(); // Primeras discrepancias encontradas
+
+	private static final int MAX_ERRORS = 10; // Discrepancias detalladas en el informe
+
+	// Estado del partido en curso.
+	private final int[] roundScores = new int[TraceFormat.ARCHERS_PER_GAME];
+	private final int[] archerRoundsWon = new int[TraceFormat.ARCHERS_PER_GAME];
+	private final int[] teamScores = new int[2];
+	private final int[] teamRoundsWon = new int[2];
+	private final List<int[]> tiebreaks = new ArrayList<>(); // {arquero, puntuación} por desempate
+	private int gameIndex; // Índice del juego en curso
+	private int archer; // Arquero que está disparando en la ronda en curso
+	private boolean inGame; // Indica si se ha leído el inicio del juego en curso
+
+	// Reproduce todas las trazas de un directorio: los subdirectorios games-* que escribe
+	// TraceRecorder.factory(), o un único directorio de segmentos.
+	// @param root Directorio raíz de la traza.
+	public void replay(Path root) throws IOException {
+		List<Path> directories;
+		try (Stream<Path> children = Files.list(root)) {
+			directories = children.filter(path -> path.getFileName().toString().startsWith("games-"))
+					.sorted().toList();
+		}
+		if (directories.isEmpty()) {
+			directories = List.of(root);
+		}
+		for (Path directory : directories) {
+			try (TraceReader reader = new TraceReader(directory)) {
+				replay(reader);
+			}
+		}
+	}
+
+	// Reproduce los partidos de un único flujo de eventos.
+	private void replay(TraceReader reader) throws IOException {
+		while (!reader.atEnd()) {
+			if (reader.read(1) == 0) {
+				onArrow(SHOTS[reader.readInt(TraceFormat.SHOT_BITS)]);
+				continue;
+			}
+			int tag = reader.readInt(TraceFormat.TAG_BITS);
+			switch (tag) {
+				case TraceFormat.TAG_FATIGUE -> {
+					reader.read(1);
+					closeRoundIfComplete();
+					archer++; // La fatiga cierra la tanda del arquero
+				}
+				case TraceFormat.TAG_LUCK -> reader.read(TraceFormat.LUCK_BITS); // No afecta a la puntuación
+				case TraceFormat.TAG_RANDOM, TraceFormat.TAG_EXTRA -> {
+					int id = reader.readInt(TraceFormat.ARCHER_BITS);
+					teamScores[id <= TEAM_SIZE ? 0 : 1] += SHOTS[reader.readInt(TraceFormat.SHOT_BITS)].getScore();
+				}
+				case TraceFormat.TAG_TIEBREAK -> {
+					int id = reader.readInt(TraceFormat.ARCHER_BITS);
+					tiebreaks.add(new int[]{id, SHOTS[reader.readInt(TraceFormat.SHOT_BITS)].getScore()});
+				}
+				case TraceFormat.TAG_GAME_START -> startGame(reader.readInt(TraceFormat.GAME_INDEX_BITS));
+				case TraceFormat.TAG_GAME_END -> endGame(reader);
+				default -> throw new IOException("Evento desconocido en la traza: " + tag);
+			}
+		}
+	}
+
+	private void startGame(int index) {
+		gameIndex = index;
+		inGame = true;
+		archer = 0;
+		Arrays.fill(roundScores, 0);
+		Arrays.fill(archerRoundsWon, 0);
+		Arrays.fill(teamScores, 0);
+		Arrays.fill(teamRoundsWon, 0);
+		tiebreaks.clear();
+	}
+
+	private void onArrow(Shot shot) {
+		arrows++;
+		closeRoundIfComplete();
+		roundScores[archer] += shot.getScore();
+	}
+
+	// Cierra la ronda anterior cuando todos los arqueros ya han disparado.
+	private void closeRoundIfComplete() {
+		if (archer == TraceFormat.ARCHERS_PER_GAME) {
+			closeRound();
+		}
+	}
+
+	// Aplica las reglas de final de ronda (Match.calculateWinnerArcherByRound y
+	// Match.calculateWinnerTeamByRound) y prepara la siguiente.
+	private void closeRound() {
+		int a = highestScoring(0);
+		int b = highestScoring(TEAM_SIZE);
+		int scoreA = roundScores[a];
+		int scoreB = roundScores[b];
+		for (int i = 0; scoreA == scoreB && i + 1 < tiebreaks.size(); i += 2) {
+			scoreA = tiebreaks.get(i)[1];
+			scoreB = tiebreaks.get(i + 1)[1];
+		}
+		archerRoundsWon[scoreA > scoreB ? a : b]++;
+		int round1 = 0;
+		int round2 = 0;
+		for (int i = 0; i < TEAM_SIZE; i++) {
+			round1 += roundScores[i];
+			round2 += roundScores[TEAM_SIZE + i];
+		}
+		teamScores[0] += round1;
+		teamScores[1] += round2;
+		if (round1 != round2) {
+			teamRoundsWon[round1 > round2 ? 0 : 1]++;
+		}
+		Arrays.fill(roundScores, 0);
+		tiebreaks.clear();
+		archer = 0;
+	}
+
+	// Primer arquero con la puntuación de ronda más alta del equipo que empieza en from.
+	private int highestScoring(int from) {
+		int best = from;
+		for (int i = from + 1; i < from + TEAM_SIZE; i++) {
+			if (roundScores[i] > roundScores[best]) {
+				best = i;
+			}
+		}
+		return best;
+	}
+
+	// Primer arquero con más rondas ganadas del equipo que empieza en from.
+	private int mostWinning(int from) {
+		int best = from;
+		for (int i = from + 1; i < from + TEAM_SIZE; i++) {
+			if (archerRoundsWon[i] > archerRoundsWon[best]) {
+				best = i;
+			}
+		}
+		return best;
+	}
+
+	// Cierra el partido y lo compara con el resumen grabado.
+	private void endGame(TraceReader reader) throws IOException {
+		closeRoundIfComplete();
+		int[] recordedScores = new int[2];
+		int[] recordedRounds = new int[2];
+		for (int t = 0; t < 2; t++) {
+			recordedScores[t] = reader.readInt(TraceFormat.TEAM_SCORE_BITS);
+			recordedRounds[t] = reader.readInt(TraceFormat.ROUNDS_BITS);
+		}
+		long genders = reader.read(TraceFormat.ARCHERS_PER_GAME);
+		boolean recordedMale = reader.read(1) == 1;
+
+		int a = mostWinning(0);
+		int b = mostWinning(TEAM_SIZE);
+		int winner = archerRoundsWon[a] > archerRoundsWon[b] ? a : b;
+		boolean male = (genders >>> winner & 1) == 1;
+
+		games++;
+		team1Score += teamScores[0];
+		team2Score += teamScores[1];
+		if (male) {
+			maleVictories++;
+		} else {
+			femaleVictories++;
+		}
+		boolean matches = inGame && teamScores[0] == recordedScores[0] && teamScores[1] == recordedScores[1]
+				&& teamRoundsWon[0] == recordedRounds[0] && teamRoundsWon[1] == recordedRounds[1]
+				&& male == recordedMale;
+		if (!matches) {
+			mismatches++;
+			if (errors.size() < MAX_ERRORS) {
+				errors.add(String.format("Juego %d: reproducido %d-%d (%d-%d rondas, %s), grabado %d-%d (%d-%d rondas, %s)",
+						gameIndex, teamScores[0], teamScores[1], teamRoundsWon[0], teamRoundsWon[1],
+						male ? "Hombre" : "Mujer", recordedScores[0], recordedScores[1],
+						recordedRounds[0], recordedRounds[1], recordedMale ? "Hombre" : "Mujer"));
+			}
+		}
+		inGame = false;
+	}
+
+	// Genera un informe con el resultado de la reproducción.
+	public String report() {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("Partidos reproducidos : %d (%d flechas)%n", games, arrows));
+		report.append(String.format("Discrepancias : %d%n", mismatches));
+		report.append(String.format("Puntuación total : Equipo 1 = %d, Equipo 2 = %d%n", team1Score, team2Score));
+		report.append(String.format("Victorias por género : Hombre = %d, Mujer = %d%n", maleVictories, femaleVictories));
+		errors.forEach(error -> report.append(error).append(System.lineSeparator()));
+		return report.toString();
+	}
+}
@@ -7,13 +7,24 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
-import org.archery.simulation.model.Archer;
+import org.archery.simulation.model.ArcherScore;
+import org.archery.simulation.model.CareerStore;
+import org.archery.simulation.model.StreamingHistogram;
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.category.BarRenderer;
+import org.jfree.chart.renderer.xy.XYBarRenderer;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYIntervalSeries;
+import org.jfree.data.xy.XYIntervalSeriesCollection;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
 
@@ -26,7 +37,7 @@ public class GraphUtils {
 
 	// Crea un conjunto de datos que representa las puntuaciones acumuladas de cada arquero
 	// a lo largo de los partidos. El conjunto de datos se usará para graficar la evolución de las puntuaciones.
-	public static XYDataset createDataset(List<Archer> archers) {
+	public static XYDataset createDataset(List<ArcherScore> archers) {
 		XYSeriesCollection dataset = new XYSeriesCollection();
 
 		// Mapa que asocia cada arquero (por su ID) con una serie de datos en el gráfico
@@ -35,8 +46,8 @@ public class GraphUtils {
 				.collect(Collectors.toMap(id -> id, id -> new XYSeries("Arquero " + id)));
 
 		// Agrega las puntuaciones de cada arquero por partido al conjunto de datos
-		for (int i = 0; i < NUMBER_MATCH; i++) {
-			Archer archer = archers.get(i);
+		for (int i = 0; i < Math.min(NUMBER_MATCH, archers.size()); i++) {
+			ArcherScore archer = archers.get(i);
 			int archerId = archer.getArcherId();
 			if (archerSeriesMap.containsKey(archerId)) {
 				archerSeriesMap.get(archerId).add(i + 1, archer.getTotalScore());
@@ -105,4 +116,102 @@ public class GraphUtils {
 		plot.setDomainGridlinesVisible(true);        // Mostrar líneas de la cuadrícula verticales
 		plot.setDomainGridlinePaint(Color.BLACK);    // Color de las líneas del eje X
 	}
+
+	// Crea un conjunto de datos con las cubetas no vacías de un histograma.
+	// Cada cubeta se dibuja como una barra que cubre su intervalo de valores.
+	public static IntervalXYDataset createHistogramDataset(StreamingHistogram histogram) {
+		XYIntervalSeries series = new XYIntervalSeries(histogram.getName());
+		for (int bucket = 0; bucket < histogram.getBucketCount(); bucket++) {
+			long count = histogram.getCount(bucket);
+			if (count > 0) {
+				long lower = StreamingHistogram.bucketLowerBound(bucket);
+				long width = StreamingHistogram.bucketWidth(bucket);
+				series.add(lower + width / 2.0, lower, lower + width, count, count, count);
+			}
+		}
+		XYIntervalSeriesCollection dataset = new XYIntervalSeriesCollection();
+		dataset.addSeries(series);
+		return dataset;
+	}
+
+	// Crea un gráfico de barras con la distribución de un histograma.
+	public static JFreeChart createHistogramChart(StreamingHistogram histogram) {
+		JFreeChart chart = ChartFactory.createXYBarChart(
+				histogram.getName(),              // Título del gráfico
+				"Valor",                          // Etiqueta del eje X
+				false,                            // El eje X no es de fechas
+				"Frecuencia",                     // Etiqueta del eje Y
+				createHistogramDataset(histogram), // Conjunto de datos
+				PlotOrientation.VERTICAL,         // Orientación del gráfico
+				false,                            // Sin leyenda
+				true,                             // Generar tooltips
+				false                             // No generar URLs
+		);
+
+		XYPlot plot = chart.getXYPlot();
+		XYBarRenderer renderer = new XYBarRenderer();
+		renderer.setSeriesPaint(0, new Color(50, 173, 181)); // Mismo color que los botones de la vista
+		renderer.setShadowVisible(false);
+		plot.setRenderer(renderer);
+		plot.setBackgroundPaint(Color.WHITE);        // Fondo blanco
+		plot.setRangeGridlinePaint(Color.BLACK);     // Color de las líneas del eje Y
+		plot.setDomainGridlinePaint(Color.BLACK);    // Color de las líneas del eje X
+		return chart;
+	}
+
+	// Crea un conjunto de datos con la puntuación media por partido de cada arquero,
+	// leída directamente del almacén de carreras.
+	public static CategoryDataset createCareerDataset(CareerStore careers) {
+		DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+		for (int id = 1; id <= careers.getMaxArcherId(); id++) {
+			if (careers.getMatches(id) > 0) {
+				dataset.addValue(careers.getAverage(id, CareerStore.Metric.SCORE), "Puntuación media", "Arquero " + id);
+			}
+		}
+		return dataset;
+	}
+
+	// Crea un gráfico de barras con la puntuación media por partido de cada arquero.
+	public static JFreeChart createCareerChart(CareerStore careers) {
+		JFreeChart chart = ChartFactory.createBarChart(
+				"Puntuación media por partido de cada arquero", // Título del gráfico
+				"Arquero",                        // Etiqueta del eje X
+				"Puntuación media",               // Etiqueta del eje Y
+				createCareerDataset(careers),     // Conjunto de datos
+				PlotOrientation.VERTICAL,         // Orientación del gráfico
+				false,                            // Sin leyenda
+				true,                             // Generar tooltips
+				false                             // No generar URLs
+		);
+
+		CategoryPlot plot = chart.getCategoryPlot();
+		BarRenderer renderer = new BarRenderer();
+		renderer.setSeriesPaint(0, new Color(50, 173, 181)); // Mismo color que los botones de la vista
+		renderer.setShadowVisible(false);
+		plot.setRenderer(renderer);
+		plot.setBackgroundPaint(Color.WHITE);        // Fondo blanco
+		plot.setRangeGridlinePaint(Color.BLACK);     // Color de las líneas del eje Y
+		return chart;
+	}
+
+	// Crea un gráfico de líneas con el rendimiento de la simulación según el número de hilos,
+	// con una serie por número de juegos.
+	public static JFreeChart createScalingChart(XYDataset dataset) {
+		JFreeChart chart = ChartFactory.createXYLineChart(
+				"Escalado de la simulación",      // Título del gráfico
+				"Hilos",                          // Etiqueta del eje X
+				"Juegos por segundo",             // Etiqueta del eje Y
+				dataset,                          // Conjunto de datos
+				PlotOrientation.VERTICAL,         // Orientación del gráfico
+				true,                             // Mostrar leyenda
+				false,                            // Sin tooltips
+				false                             // No generar URLs
+		);
+		customizeChart(chart);
+		XYPlot plot = chart.getXYPlot();
+		XYLineAndShapeRenderer renderer = (XYLineAndShapeRenderer) plot.getRenderer();
+		renderer.setBaseShapesFilled(true); // Marca cada medición para ver dónde se aplana la curva
+		plot.getDomainAxis().setStandardTickUnits(NumberAxis.createIntegerTickUnits()); // Hilos enteros
+		return chart;
+	}
 }
@@ -14,11 +14,15 @@ import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
+import javax.swing.JTabbedPane;
 import javax.swing.JTable;
 import javax.swing.UIManager;
 import javax.swing.table.DefaultTableModel;
+import javax.swing.table.TableModel;
 
-import org.archery.simulation.model.Archer;
+import org.archery.simulation.model.ArcherScore;
+import org.archery.simulation.model.CareerStore;
+import org.archery.simulation.model.StreamingHistogram;
 import org.jfree.chart.ChartPanel;
 import org.jfree.chart.JFreeChart;
 import org.jfree.data.xy.XYDataset;
@@ -32,14 +36,17 @@ public class MainView extends JFrame {
     private final Color BUTTON_COLOR = new Color(50, 173, 181);
     private final Color TABLE_BACKGROUND = new Color(57, 62, 70);
     private JPanel statsPanel;
-    private JPanel graphPanel;
+    private JTabbedPane graphPanel;
     private JLabel scoreLabel;
     private JLabel scoreLabel2;
     private JLabel genderWinnerLabel;
 
     public MainView(String luckiestArchersStats, String mostExperienceArcherStats,
-                    String scoreWinningTeamStats, String winningGenderStats,
-                    String genderGameWinnerStats, List<Archer> archers, String points) {
+                    String scoreWinningTeamStats, TableModel winningGenderStats,
+                    String genderGameWinnerStats, List<ArcherScore> archers, String points,
+                    String convergenceStats, String distributionStats,
+                    List<StreamingHistogram> histograms, String careerStats,
+                    CareerStore careers, String topMatchesStats) {
         super("Simulación de tiro con arco");
         setExtendedState(MAXIMIZED_BOTH);
         setDefaultCloseOperation(EXIT_ON_CLOSE);
@@ -48,7 +55,8 @@ public class MainView extends JFrame {
         setLookAndFeel();
         initComponents(luckiestArchersStats, mostExperienceArcherStats,
                 scoreWinningTeamStats, winningGenderStats,
-                genderGameWinnerStats, archers, points);
+                genderGameWinnerStats, archers, points, convergenceStats,
+                distributionStats, histograms, careerStats, careers, topMatchesStats);
         setVisible(true);
         showStatsPanel(luckiestArchersStats);
     }
@@ -62,15 +70,23 @@ public class MainView extends JFrame {
     }
 
     private void initComponents(String luckiestArchersStats, String mostExperienceArcherStats,
-                                String scoreWinningTeamStats, String winningGenderStats,
-                                String genderGameWinnerStats, List<Archer> archers, String points) {
+                                String scoreWinningTeamStats, TableModel winningGenderStats,
+                                String genderGameWinnerStats, List<ArcherScore> archers, String points,
+                                String convergenceStats, String distributionStats,
+                                List<StreamingHistogram> histograms, String careerStats,
+                                CareerStore careers, String topMatchesStats) {
         JPanel mainPanel = new JPanel(new BorderLayout());
         JPanel buttonPanel = new JPanel(new FlowLayout());
         JPanel contentPanel = new JPanel(new GridLayout(1, 2));
 
         statsPanel = new JPanel(new BorderLayout());
 		
-        graphPanel = createGraphPanel(archers);
+        graphPanel = new JTabbedPane();
+        graphPanel.addTab("Arqueros", createGraphPanel(archers));
+        graphPanel.addTab("Carreras", createChartPanel(GraphUtils.createCareerChart(careers)));
+        for (StreamingHistogram histogram : histograms) {
+            graphPanel.addTab(histogram.getName(), createChartPanel(GraphUtils.createHistogramChart(histogram)));
+        }
 
         JPanel fixedStatsPanel = new JPanel(new GridLayout(2, 1));
         fixedStatsPanel.setBackground(BACKGROUND_COLOR);
@@ -92,15 +108,27 @@ public class MainView extends JFrame {
         
         JButton luckiestButton = createStyledButton("Arqueros con más suerte");
         JButton experienceButton = createStyledButton("Arquero con más experiencia");
+        JButton topMatchesButton = createStyledButton("Partidos con más puntos");
         JButton genderWinButton = createStyledButton("Género ganador por partido");
+        JButton convergenceButton = createStyledButton("Convergencia");
+        JButton distributionButton = createStyledButton("Distribuciones");
+        JButton careerButton = createStyledButton("Carreras");
 
         luckiestButton.addActionListener(e -> showStatsPanel(luckiestArchersStats));
         experienceButton.addActionListener(e -> showStatsPanel(mostExperienceArcherStats));
+        topMatchesButton.addActionListener(e -> showStatsPanel(topMatchesStats));
         genderWinButton.addActionListener(e -> showStatsPanel(winningGenderStats));
+        convergenceButton.addActionListener(e -> showStatsPanel(convergenceStats));
+        distributionButton.addActionListener(e -> showStatsPanel(distributionStats));
+        careerButton.addActionListener(e -> showStatsPanel(careerStats));
 
         buttonPanel.add(luckiestButton);
         buttonPanel.add(experienceButton);
+        buttonPanel.add(topMatchesButton);
         buttonPanel.add(genderWinButton);
+        buttonPanel.add(convergenceButton);
+        buttonPanel.add(distributionButton);
+        buttonPanel.add(careerButton);
 
         statsPanel.add(fixedStatsPanel, BorderLayout.NORTH);
 
@@ -123,6 +151,12 @@ public class MainView extends JFrame {
     }
 
     private void showStatsPanel(String statisticText) {
+        String[] columnNames = {"Datos"};
+        String[][] data = statisticText.lines().map(line -> new String[]{line}).toArray(String[][]::new);
+        showStatsPanel(new DefaultTableModel(data, columnNames));
+    }
+
+    private void showStatsPanel(TableModel statisticRows) {
         statsPanel.removeAll();
         JPanel fixedStatsPanel = new JPanel(new GridLayout(3, 1));
         fixedStatsPanel.setBackground(BACKGROUND_COLOR);
@@ -131,22 +165,19 @@ public class MainView extends JFrame {
         fixedStatsPanel.add(genderWinnerLabel);
         statsPanel.add(fixedStatsPanel, BorderLayout.NORTH);
         
-        JScrollPane scrollPane = new JScrollPane(createTablePanel(statisticText));
+        JScrollPane scrollPane = new JScrollPane(createTablePanel(statisticRows));
         scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_ALWAYS);
         statsPanel.add(scrollPane, BorderLayout.CENTER);
         statsPanel.revalidate();
         statsPanel.repaint();
     }
 
-    private JPanel createTablePanel(String statisticText) {
+    private JPanel createTablePanel(TableModel statisticRows) {
         JPanel panel = new JPanel(new BorderLayout());
         panel.setBackground(BACKGROUND_COLOR);
         panel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
 
-        String[] columnNames = {"Datos"};
-        String[][] data = statisticText.lines().map(line -> new String[]{line}).toArray(String[][]::new);
-        
-        JTable table = new JTable(new DefaultTableModel(data, columnNames));
+        JTable table = new JTable(statisticRows);
         table.setFont(new Font("Verdana", Font.PLAIN, 12));
         table.setBackground(TABLE_BACKGROUND);
         table.setForeground(TEXT_COLOR);
@@ -159,13 +190,15 @@ public class MainView extends JFrame {
         return panel;
     }
 
-    private JPanel createGraphPanel(List<Archer> archers) {
+    private JPanel createGraphPanel(List<ArcherScore> archers) {
+        XYDataset dataset = createDataset(archers);
+        return createChartPanel(createChart(dataset));
+    }
+
+    private JPanel createChartPanel(JFreeChart chart) {
         JPanel panel = new JPanel(new BorderLayout());
         panel.setBackground(BACKGROUND_COLOR);
 
-        XYDataset dataset = createDataset(archers);
-        JFreeChart chart = createChart(dataset);
-
         ChartPanel chartPanel = new ChartPanel(chart);
         chartPanel.setPreferredSize(new Dimension(600, 600));
         panel.add(chartPanel, BorderLayout.CENTER);
@@ -173,7 +206,7 @@ public class MainView extends JFrame {
         return panel;
     }
 
-    private XYDataset createDataset(List<Archer> archers) {
+    private XYDataset createDataset(List<ArcherScore> archers) {
         return GraphUtils.createDataset(archers);
     }
 
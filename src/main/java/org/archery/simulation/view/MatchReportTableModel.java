@@ -0,0 +1,44 @@
+package org.archery.simulation.view;
+
+import javax.swing.table.AbstractTableModel;
+
+import org.archery.simulation.model.SimulationResult;
+import org.archery.simulation.report.MatchReport;
+
+// Modelo de tabla de un informe por partido que genera cada fila al pintarla, en lugar de
+// construir el informe completo como texto: la tabla solo formatea las filas visibles.
+public class MatchReportTableModel extends AbstractTableModel {
+
+	private final SimulationResult result; // Resultado con el registro de partidos
+	private final MatchReport report; // Informe que se muestra
+
+	public MatchReportTableModel(SimulationResult result, MatchReport report) {
+		this.result = result;
+		this.report = report;
+	}
+
+	@Override
+	public int getRowCount() {
+		return result.getMatchReportSize();
+	}
+
+	@Override
+	public int getColumnCount() {
+		return 1;
+	}
+
+	@Override
+	public String getColumnName(int column) {
+		return "Datos";
+	}
+
+	@Override
+	public Object getValueAt(int row, int column) {
+		return result.getMatchReportLine(report, row);
+	}
+
+	@Override
+	public boolean isCellEditable(int row, int column) {
+		return false;
+	}
+}
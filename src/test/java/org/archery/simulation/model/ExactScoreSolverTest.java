@@ -0,0 +1,52 @@
+package org.archery.simulation.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+// Pruebas de las distribuciones exactas frente a una simulación corta con semilla fija.
+class ExactScoreSolverTest {
+
+	private static final int GAMES = 4_000;
+	private static final long SEED = 9;
+	private static final double MAX_DEVIATIONS = 4; // Errores estándar admitidos en las medias
+	private static final double MAX_TEAM_DISTANCE = 0.08; // Distancia TV admitida con 2 · GAMES muestras
+	private static final double MAX_ROUND_DISTANCE = 0.02; // Distancia TV admitida con 100 · GAMES muestras
+
+	private static final ExactScoreSolver SOLVER = new ExactScoreSolver();
+
+	@Test
+	void distributionsAreNormalized() {
+		assertEquals(1, SOLVER.teamMatchScore().getTotal(), 1e-9);
+		assertEquals(1, SOLVER.archerRoundScore().getTotal(), 1e-9);
+		assertEquals(1, SOLVER.archerTotalScore().getTotal(), 1e-9);
+		assertEquals(1.0 / 3, SOLVER.getMaleProbability(), 1e-12); // Solo nextInt(0, 2) = 0 es hombre
+	}
+
+	@ParameterizedTest
+	@EnumSource(ShotEngine.class)
+	void simulationMatchesTheExactDistributions(ShotEngine engine) {
+		SimulationConfig config = new SimulationConfig(GAMES, SEED);
+		config.setShotEngine(engine);
+		config.setRetainMatches(false);
+		SimulationStatistics statistics = new Game(config).getStatistics();
+
+		// Las puntuaciones de un mismo partido o arquero están correlacionadas: el error estándar se
+		// calcula con un partido por juego y un arquero por juego y ronda, lo que lo sobreestima.
+		ScoreDistribution team = SOLVER.teamMatchScore();
+		assertMean(team, statistics.getTeamScores(), GAMES);
+		assertTrue(team.totalVariationDistance(statistics.getTeamScores()) < MAX_TEAM_DISTANCE);
+
+		ScoreDistribution round = SOLVER.archerRoundScore();
+		assertMean(round, statistics.getArcherRoundScores(), 10L * GAMES);
+		assertTrue(round.totalVariationDistance(statistics.getArcherRoundScores()) < MAX_ROUND_DISTANCE);
+	}
+
+	private static void assertMean(ScoreDistribution exact, StreamingHistogram histogram, long samples) {
+		double standardError = exact.getStandardDeviation() / Math.sqrt(samples);
+		assertEquals(exact.getMean(), histogram.getMean(), MAX_DEVIATIONS * standardError, histogram.getName());
+	}
+}
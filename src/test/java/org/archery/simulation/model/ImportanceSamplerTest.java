@@ -0,0 +1,61 @@
+package org.archery.simulation.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+// Pruebas del muestreo por importancia de sucesos raros frente a Monte Carlo simple.
+class ImportanceSamplerTest {
+
+	private static final int GAMES = 16_000; // Múltiplo de las réplicas: todas registran los mismos partidos
+	private static final int REPLICATES = 16;
+	private static final double SMALL_TILT = 0.5;
+	private static final double MAX_DEVIATIONS = 4; // Desviaciones típicas admitidas entre las dos estimaciones
+
+	// Sin inclinación los sorteos son los nominales: la simulación coincide con la de Monte Carlo
+	// simple y cada peso vale 1, así que la estimación es la fracción de partidos con el suceso.
+	@ParameterizedTest
+	@EnumSource(RareEvent.class)
+	void zeroTiltIsPlainMonteCarlo(RareEvent target) {
+		SimulationStatistics plain = simulate(null, 0, 7);
+		SimulationStatistics tilted = simulate(target, 0, 7);
+		assertEquals(plain.getTeam1Score(), tilted.getTeam1Score());
+		assertEquals(plain.getTeam2Score(), tilted.getTeam2Score());
+		assertEquals(plain.getFemaleVictories(), tilted.getFemaleVictories());
+
+		ImportanceSampler sampler = tilted.getImportanceSampler();
+		assertEquals(GAMES, sampler.getGames());
+		for (RareEvent event : RareEvent.values()) {
+			double fraction = (double) sampler.getHits(event) / GAMES;
+			assertEquals(fraction, sampler.estimate(event).getMean(), 1e-12, event.name());
+		}
+	}
+
+	// Con una inclinación pequeña el suceso objetivo aparece más a menudo, pero los pesos corrigen
+	// la estimación hasta la probabilidad nominal que da Monte Carlo simple (con otra semilla).
+	@ParameterizedTest
+	@EnumSource(RareEvent.class)
+	void smallTiltIsUnbiased(RareEvent target) {
+		ImportanceSampler reference = simulate(target, 0, 1).getImportanceSampler();
+		ImportanceSampler tilted = simulate(target, SMALL_TILT, 2).getImportanceSampler();
+		assertTrue(tilted.getHits(target) > reference.getHits(target), "La inclinación debe hacer más frecuente el suceso");
+
+		Estimate expected = reference.estimate(target);
+		Estimate actual = tilted.estimate(target);
+		double tolerance = MAX_DEVIATIONS * Math.hypot(expected.getStandardError(), actual.getStandardError());
+		assertEquals(expected.getMean(), actual.getMean(), tolerance, target.name());
+	}
+
+	// Simula con el suceso objetivo y la inclinación indicados, o sin muestreo por importancia si target es null.
+	private static SimulationStatistics simulate(RareEvent target, double tilt, long seed) {
+		SimulationConfig config = new SimulationConfig(GAMES, seed);
+		config.setReplicates(REPLICATES);
+		config.setThreads(4);
+		config.setRetainMatches(false);
+		config.setRareEvent(target);
+		config.setImportanceTilt(tilt);
+		return new Game(config).getStatistics();
+	}
+}
@@ -0,0 +1,57 @@
+package org.archery.simulation.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+// Pruebas del formateo de enteros de ReportWriter frente a Integer.toString, también cuando el
+// número cae a caballo del final del búfer.
+class ReportWriterTest {
+
+	private static final int BUFFER_SIZE = 16; // Búfer mínimo: los números largos cruzan su final
+	private static final int[] VALUES = {
+			0, 1, 9, 10, 99, 100, 12_345, 999_999_999, 1_000_000_000, Integer.MAX_VALUE,
+			-1, -9, -10, -100, -999_999_999, -1_000_000_000, -Integer.MAX_VALUE, Integer.MIN_VALUE};
+
+	@Test
+	void integersMatchIntegerToString() throws IOException {
+		for (int value : VALUES) {
+			StringBuilder out = new StringBuilder();
+			ReportWriter writer = new ReportWriter(out);
+			writer.append(value).flush();
+			assertEquals(Integer.toString(value), out.toString());
+		}
+	}
+
+	// Desplaza cada número por todas las posiciones del búfer con un prefijo de relleno.
+	@Test
+	void integersAcrossBufferBoundaries() throws IOException {
+		for (int value : VALUES) {
+			for (int padding = 0; padding <= BUFFER_SIZE; padding++) {
+				String prefix = "x".repeat(padding);
+				String expected = prefix + value + "|" + value;
+				assertEquals(expected, write(new StringBuilder(), prefix, value).toString(), "StringBuilder " + padding);
+				assertEquals(expected, write(new StringWriter(), prefix, value).toString(), "Writer " + padding);
+				assertEquals(expected, write(new StringBuffer(), prefix, value).toString(), "Appendable " + padding);
+			}
+		}
+	}
+
+	@Test
+	void linesAndLongTextSpanSeveralBlocks() throws IOException {
+		StringBuilder out = new StringBuilder();
+		ReportWriter writer = new ReportWriter(out, BUFFER_SIZE);
+		String text = "Partido 1 : Arquero 10 Total de lanzamientos ganados : ";
+		writer.append(text).append(-42).newLine().append('#').flush();
+		assertEquals(text + "-42" + System.lineSeparator() + "#", out.toString());
+	}
+
+	private static <T extends Appendable> T write(T out, String prefix, int value) throws IOException {
+		ReportWriter writer = new ReportWriter(out, BUFFER_SIZE);
+		writer.append(prefix).append(value).append('|').append(value).flush();
+		return out;
+	}
+}
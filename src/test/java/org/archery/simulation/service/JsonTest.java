@@ -0,0 +1,34 @@
+package org.archery.simulation.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+// Pruebas de la lectura de objetos JSON planos del servicio.
+class JsonTest {
+
+	@Test
+	void escapedQuotesDoNotCloseTheString() {
+		Map<String, String> values = Json.parseObject("{\"name\": \"a \\\"quoted\\\" \\\\ value\", \"games\": 5}");
+		assertEquals("a \"quoted\" \\ value", values.get("name"));
+		assertEquals("5", values.get("games"));
+		assertEquals(2, values.size());
+	}
+
+	@Test
+	void parseUndoesQuote() {
+		String text = "línea\n\t\"cita\" \\ barra / \u0001 fin";
+		assertEquals(text, Json.parseObject("{\"k\":" + Json.quote(text) + "}").get("k"));
+		assertEquals("é/", Json.parseObject("{\"k\":\"\\u00e9\\/\"}").get("k"));
+	}
+
+	@Test
+	void malformedStringsAreRejected() {
+		for (String body : new String[] {"{\"k\": \"abc\\\"}", "{\"k\": \"\\x\"}", "{\"k\": \"\\u12\"}", "{\"k\": \"\\uzzzz\"}"}) {
+			assertThrows(IllegalArgumentException.class, () -> Json.parseObject(body), body);
+		}
+	}
+}
@@ -0,0 +1,138 @@
+package org.archery.simulation.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+// Pruebas de ida y vuelta contra el servicio escuchando en localhost.
+class SimulationServiceTest {
+
+	private static final Pattern ID = Pattern.compile("\"id\":\"(\\d+)\"");
+	private static final Pattern STATUS = Pattern.compile("\"status\":\"(\\w+)\"");
+	private static final String LONG_JOB = "{\"games\": 10000000, \"seed\": 1, \"threads\": 1}";
+
+	private final HttpClient client = HttpClient.newHttpClient();
+	private SimulationService service;
+
+	@AfterEach
+	void stop() {
+		if (service != null) {
+			service.stop();
+		}
+	}
+
+	@Test
+	void submitPollAndFetchResult() throws Exception {
+		start(1, 4, Duration.ofMinutes(5));
+		HttpResponse<String> submitted = send("POST", "/jobs", "{\"games\": 200, \"seed\": 7, \"threads\": 2}");
+		assertEquals(202, submitted.statusCode());
+		String id = id(submitted);
+		assertEquals("COMPLETED", awaitStatus(id, "COMPLETED"));
+		HttpResponse<String> result = send("GET", "/jobs/" + id + "/result", null);
+		assertEquals(200, result.statusCode());
+		assertTrue(result.body().contains("\"games\":200"), result.body());
+		assertTrue(result.body().contains("\"estimates\""), result.body());
+	}
+
+	@Test
+	void cancelRunningJob() throws Exception {
+		start(1, 4, Duration.ofMinutes(5));
+		String id = id(send("POST", "/jobs", LONG_JOB));
+		awaitStatus(id, "RUNNING");
+		assertEquals(409, send("GET", "/jobs/" + id + "/result", null).statusCode());
+		assertEquals(200, send("DELETE", "/jobs/" + id, null).statusCode());
+		assertEquals("CANCELLED", awaitStatus(id, "CANCELLED"));
+		// Un segundo DELETE sobre un trabajo terminado lo elimina
+		assertEquals(200, send("DELETE", "/jobs/" + id, null).statusCode());
+		assertEquals(404, send("GET", "/jobs/" + id, null).statusCode());
+	}
+
+	@Test
+	void fullQueueIsRejectedAndCancelledJobFreesItsSlot() throws Exception {
+		start(1, 1, Duration.ofMinutes(5));
+		String running = id(send("POST", "/jobs", LONG_JOB));
+		awaitStatus(running, "RUNNING");
+		HttpResponse<String> queued = send("POST", "/jobs", LONG_JOB);
+		assertEquals(202, queued.statusCode());
+		assertEquals(429, send("POST", "/jobs", LONG_JOB).statusCode());
+		// Cancelar el trabajo en cola libera su hueco inmediatamente
+		assertEquals(200, send("DELETE", "/jobs/" + id(queued), null).statusCode());
+		assertEquals(202, send("POST", "/jobs", LONG_JOB).statusCode());
+	}
+
+	@Test
+	void malformedBodiesAreRejected() throws Exception {
+		start(1, 4, Duration.ofMinutes(5));
+		for (String body : new String[] {"{\"games}", "{\"games\":\"5}", "[1]", "{\"games\": -1}", "{\"games\": x}"}) {
+			HttpResponse<String> response = send("POST", "/jobs", body);
+			assertEquals(400, response.statusCode(), body);
+			assertTrue(response.body().contains("\"error\""), response.body());
+		}
+		assertEquals(404, send("GET", "/jobs/999", null).statusCode());
+	}
+
+	@Test
+	void finishedJobsExpire() throws Exception {
+		start(1, 4, Duration.ZERO);
+		HttpResponse<String> submitted = send("POST", "/jobs", "{\"games\": 50, \"seed\": 3}");
+		assertEquals(202, submitted.statusCode());
+		// Con caducidad inmediata, la primera petición tras terminar elimina el trabajo
+		int statusCode = 200;
+		for (int i = 0; i < 400 && statusCode == 200; i++) {
+			Thread.sleep(25);
+			statusCode = send("GET", "/jobs/" + id(submitted), null).statusCode();
+		}
+		assertEquals(404, statusCode);
+	}
+
+	private void start(int maxJobs, int queueCapacity, Duration ttl) throws IOException {
+		service = new SimulationService(0, maxJobs, queueCapacity, 2, ttl, 16);
+		service.start();
+	}
+
+	private HttpResponse<String> send(String method, String path, String body) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + service.getPort() + path))
+				.method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+				.timeout(Duration.ofSeconds(10))
+				.build();
+		return client.send(request, HttpResponse.BodyHandlers.ofString());
+	}
+
+	// Consulta el trabajo hasta que llega al estado esperado o se agota el tiempo.
+	private String awaitStatus(String id, String expected) throws Exception {
+		String status = null;
+		for (int i = 0; i < 400 && !expected.equals(status); i++) {
+			status = status(send("GET", "/jobs/" + id, null));
+			if (!expected.equals(status)) {
+				Thread.sleep(25);
+			}
+		}
+		assertEquals(expected, status);
+		return status;
+	}
+
+	private static String id(HttpResponse<String> response) {
+		return group(ID, response.body());
+	}
+
+	private static String status(HttpResponse<String> response) {
+		return group(STATUS, response.body());
+	}
+
+	private static String group(Pattern pattern, String text) {
+		Matcher matcher = pattern.matcher(text);
+		assertTrue(matcher.find(), text);
+		return matcher.group(1);
+	}
+}
@@ -0,0 +1,51 @@
+package org.archery.simulation.trace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.archery.simulation.model.Game;
+import org.archery.simulation.model.SimulationConfig;
+import org.archery.simulation.model.SimulationStatistics;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+// Pruebas de ida y vuelta de la traza binaria: grabar con TraceRecorder y reproducir con TraceReplayer.
+class TraceRecorderTest {
+
+	private static final int GAMES = 20;
+
+	// Con 24 bytes cada segmento guarda una sola palabra, así que al cerrar la última palabra
+	// incompleta siempre cae en un segmento nuevo; 1000 bytes no es múltiplo de 8 y se redondea.
+	@ParameterizedTest
+	@ValueSource(ints = {TraceFormat.HEADER_BYTES + Long.BYTES, 1_000, TraceRecorder.DEFAULT_SEGMENT_BYTES})
+	void replayMatchesTheSimulationAcrossSegments(int segmentBytes, @TempDir Path directory) throws IOException {
+		SimulationConfig config = new SimulationConfig(GAMES, 11);
+		config.setThreads(2);
+		config.setListenerFactory(firstGame -> new TraceRecorder(
+				directory.resolve(String.format("games-%010d", firstGame)), segmentBytes));
+		SimulationStatistics statistics = new Game(config).getStatistics();
+
+		TraceReplayer replayer = new TraceReplayer();
+		replayer.replay(directory);
+		assertEquals(GAMES, replayer.getGames(), replayer.report());
+		assertEquals(0, replayer.getMismatches(), replayer.report());
+		assertEquals(statistics.getTeam1Score(), replayer.getTeam1Score());
+		assertEquals(statistics.getTeam2Score(), replayer.getTeam2Score());
+		assertEquals(statistics.getMaleVictories(), replayer.getMaleVictories());
+		if (segmentBytes < 1_000) {
+			assertTrue(segmentCount(directory) > GAMES, "Se esperaban muchos segmentos");
+		}
+	}
+
+	private static long segmentCount(Path directory) throws IOException {
+		try (Stream<Path> files = Files.walk(directory)) {
+			return files.filter(path -> path.getFileName().toString().endsWith(".trace")).count();
+		}
+	}
+}